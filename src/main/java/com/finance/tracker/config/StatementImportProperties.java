@@ -0,0 +1,60 @@
+package com.finance.tracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statement import settings (app.imports.*)
+ * CSV column layouts are configured per bank, keyed by Bank.code
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.imports")
+@Data
+public class StatementImportProperties {
+
+    /**
+     * Profile used when the account's bank has no profile of its own
+     */
+    public static final String DEFAULT_PROFILE = "DEFAULT";
+
+    private int maxConcurrentJobs = 2;
+    private int maxQueuedJobs = 10;
+    private int queueCapacity = 2_000;
+    private int batchSize = 1_000;
+    private int maxReportedErrors = 100;
+    private long finishedJobRetentionMinutes = 60;
+    private Map<String, BankProfile> profiles = new HashMap<>();
+
+    /**
+     * Get the profile for a bank code, falling back to DEFAULT
+     */
+    public BankProfile profileFor(String bankCode) {
+        BankProfile profile = bankCode != null ? profiles.get(bankCode) : null;
+        if (profile == null) {
+            profile = profiles.getOrDefault(DEFAULT_PROFILE, new BankProfile());
+        }
+        return profile;
+    }
+
+    /**
+     * Column layout of one bank's statements; column indexes are 0-based
+     * Amounts come from debitColumn/creditColumn when either is set, otherwise from the signed amountColumn
+     */
+    @Data
+    public static class BankProfile {
+        private char delimiter = ',';
+        private int headerLines = 1;
+        private String dateFormat = "d/M/yyyy";
+        private int dateColumn = 0;
+        private int descriptionColumn = 1;
+        private Integer amountColumn = 2;
+        private Integer debitColumn;
+        private Integer creditColumn;
+        private Integer notesColumn;
+        private char decimalSeparator = '.';
+    }
+}
@@ -1,18 +1,23 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.dto.account.AccountBalanceResponse;
 import com.finance.tracker.dto.account.AccountCreateRequest;
 import com.finance.tracker.dto.account.AccountResponse;
 import com.finance.tracker.dto.account.AccountUpdateRequest;
 import com.finance.tracker.entity.User;
+import com.finance.tracker.service.DataVersionService;
 import com.finance.tracker.service.AccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -25,6 +30,7 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final DataVersionService dataVersionService;
 
     /**
      * Create a new account
@@ -44,9 +50,14 @@ public class AccountController {
      */
     @GetMapping
     public ResponseEntity<List<AccountResponse>> getUserAccounts(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest) {
         
         log.debug("REST request to get all accounts for user: {}", user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<AccountResponse> accounts = accountService.getUserAccounts(user.getId());
         return ResponseEntity.ok(accounts);
     }
@@ -56,9 +67,14 @@ public class AccountController {
      */
     @GetMapping("/active")
     public ResponseEntity<List<AccountResponse>> getActiveAccounts(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest) {
         
         log.debug("REST request to get active accounts for user: {}", user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<AccountResponse> accounts = accountService.getActiveUserAccounts(user.getId());
         return ResponseEntity.ok(accounts);
     }
@@ -69,13 +85,38 @@ public class AccountController {
     @GetMapping("/{id}")
     public ResponseEntity<AccountResponse> getAccountById(
             @AuthenticationPrincipal User user,
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         
         log.debug("REST request to get account: id={}, userId={}", id, user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         AccountResponse account = accountService.getAccountById(user.getId(), id);
         return ResponseEntity.ok(account);
     }
 
+    /**
+     * Get account balance as of a date (defaults to today)
+     */
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<AccountBalanceResponse> getAccountBalance(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            WebRequest webRequest) {
+
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        log.debug("REST request to get account balance: id={}, asOf={}, userId={}", id, date, user.getId());
+        String etag = dataVersionService.weakETag(user.getId(), date.toString());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        AccountBalanceResponse balance = accountService.getBalanceAsOf(user.getId(), id, date);
+        return ResponseEntity.ok(balance);
+    }
+
     /**
      * Update account
      */
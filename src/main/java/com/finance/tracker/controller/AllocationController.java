@@ -4,12 +4,14 @@ import com.finance.tracker.dto.allocation.AllocationCreateRequest;
 import com.finance.tracker.dto.allocation.AllocationResponse;
 import com.finance.tracker.entity.User;
 import com.finance.tracker.service.AllocationService;
+import com.finance.tracker.service.DataVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,6 +21,7 @@ import java.util.List;
 public class AllocationController {
 
     private final AllocationService allocationService;
+    private final DataVersionService dataVersionService;
 
     @PostMapping
     public ResponseEntity<AllocationResponse> createAllocation(
@@ -28,7 +31,12 @@ public class AllocationController {
     }
 
     @GetMapping
-    public ResponseEntity<List<AllocationResponse>> getUserAllocations(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<AllocationResponse>> getUserAllocations(@AuthenticationPrincipal User user,
+                                                                       WebRequest webRequest) {
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         return ResponseEntity.ok(allocationService.getUserAllocations(user.getId()));
     }
 
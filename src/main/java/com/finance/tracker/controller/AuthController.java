@@ -2,17 +2,23 @@ package com.finance.tracker.controller;
 
 import com.finance.tracker.dto.user.JwtResponse;
 import com.finance.tracker.dto.user.LoginRequest;
+import com.finance.tracker.dto.user.RefreshTokenRequest;
 import com.finance.tracker.dto.user.UserRegistrationRequest;
 import com.finance.tracker.dto.user.UserResponse;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.security.RateLimited;
 import com.finance.tracker.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -21,12 +27,32 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<JwtResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        return ResponseEntity.ok(authService.authenticateUser(loginRequest));
+    @RateLimited(bucket = RateLimited.Bucket.CREDENTIALS)
+    public CompletableFuture<ResponseEntity<JwtResponse>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.authenticateUser(loginRequest).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/register")
-    public ResponseEntity<JwtResponse> registerUser(@Valid @RequestBody UserRegistrationRequest registrationRequest) {
-        return ResponseEntity.ok(authService.registerUser(registrationRequest));
+    @RateLimited(cost = 3, bucket = RateLimited.Bucket.CREDENTIALS)
+    public CompletableFuture<ResponseEntity<JwtResponse>> registerUser(
+            @Valid @RequestBody UserRegistrationRequest registrationRequest) {
+        return authService.registerUser(registrationRequest).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponse> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        return ResponseEntity.ok(authService.refresh(refreshRequest));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        authService.logout(refreshRequest);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal User user) {
+        authService.logoutAll(user.getId());
+        return ResponseEntity.noContent().build();
     }
 }
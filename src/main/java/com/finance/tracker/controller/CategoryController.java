@@ -5,6 +5,7 @@ import com.finance.tracker.dto.category.CategoryResponse;
 import com.finance.tracker.dto.category.CategoryUpdateRequest;
 import com.finance.tracker.entity.User;
 import com.finance.tracker.entity.enums.CategoryType;
+import com.finance.tracker.service.DataVersionService;
 import com.finance.tracker.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,6 +28,7 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final DataVersionService dataVersionService;
 
     /**
      * Create a new category
@@ -45,9 +48,14 @@ public class CategoryController {
      */
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getUserCategories(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest) {
         
         log.debug("REST request to get all categories for user: {}", user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<CategoryResponse> categories = categoryService.getUserCategories(user.getId());
         return ResponseEntity.ok(categories);
     }
@@ -57,9 +65,14 @@ public class CategoryController {
      */
     @GetMapping("/active")
     public ResponseEntity<List<CategoryResponse>> getActiveCategories(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest) {
         
         log.debug("REST request to get active categories for user: {}", user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<CategoryResponse> categories = categoryService.getActiveUserCategories(user.getId());
         return ResponseEntity.ok(categories);
     }
@@ -70,9 +83,14 @@ public class CategoryController {
     @GetMapping("/type/{type}")
     public ResponseEntity<List<CategoryResponse>> getCategoriesByType(
             @AuthenticationPrincipal User user,
-            @PathVariable CategoryType type) {
+            @PathVariable CategoryType type,
+            WebRequest webRequest) {
         
         log.debug("REST request to get categories by type: type={}, userId={}", type, user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<CategoryResponse> categories = categoryService.getCategoriesByType(user.getId(), type);
         return ResponseEntity.ok(categories);
     }
@@ -83,9 +101,14 @@ public class CategoryController {
     @GetMapping("/{id}")
     public ResponseEntity<CategoryResponse> getCategoryById(
             @AuthenticationPrincipal User user,
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         
         log.debug("REST request to get category: id={}, userId={}", id, user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         CategoryResponse category = categoryService.getCategoryById(user.getId(), id);
         return ResponseEntity.ok(category);
     }
@@ -1,14 +1,29 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.dto.dashboard.CategoryBreakdownResponse;
 import com.finance.tracker.dto.dashboard.DashboardResponse;
+import com.finance.tracker.dto.dashboard.PeriodSummaryResponse;
+import com.finance.tracker.dto.dashboard.TrendResponse;
 import com.finance.tracker.entity.User;
+import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.service.CategoryReportService;
+import com.finance.tracker.service.DashboardCacheService;
 import com.finance.tracker.service.DashboardService;
+import com.finance.tracker.service.DataVersionService;
+import com.finance.tracker.service.FxRateService;
+import com.finance.tracker.service.TrendService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -16,9 +31,79 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardCacheService dashboardCacheService;
+    private final DataVersionService dataVersionService;
+    private final FxRateService fxRateService;
+    private final TrendService trendService;
+    private final CategoryReportService categoryReportService;
 
     @GetMapping
-    public ResponseEntity<DashboardResponse> getDashboard(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(dashboardService.getDashboardData(user.getId()));
+    public ResponseEntity<DashboardResponse> getDashboard(@AuthenticationPrincipal User user, WebRequest webRequest) {
+        // Monthly figures roll over with the calendar and totals with exchange rates, not only with data changes
+        String etag = dataVersionService.weakETag(user.getId(),
+                YearMonth.now() + "-fx" + fxRateService.getSnapshotVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(dashboardCacheService.getDashboard(user.getId()));
+    }
+
+    /**
+     * Monthly income, expense and savings per currency for the last N months (default 12)
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<TrendResponse> getTrend(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "12") int months,
+            WebRequest webRequest) {
+        String etag = dataVersionService.weakETag(user.getId(), YearMonth.now() + "-" + months);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(trendService.getTrend(user.getId(), months));
+    }
+
+    /**
+     * Top categories by amount for a date range (defaults: current month, EXPENSE, top 5) with an "Other" bucket
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<CategoryBreakdownResponse> getCategoryBreakdown(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "EXPENSE") TransactionType type,
+            @RequestParam(defaultValue = "5") int top,
+            WebRequest webRequest) {
+        YearMonth month = YearMonth.now();
+        LocalDate start = from != null ? from : month.atDay(1);
+        LocalDate end = to != null ? to : month.atEndOfMonth();
+
+        String etag = dataVersionService.weakETag(user.getId(),
+                start + "_" + end + "-" + type + "-" + top + "-fx" + fxRateService.getSnapshotVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(categoryReportService.getBreakdown(user.getId(), type, start, end, top));
+    }
+
+    /**
+     * Income, expense and savings for a date range (defaults to the current month)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<PeriodSummaryResponse> getPeriodSummary(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        YearMonth month = YearMonth.now();
+        LocalDate start = from != null ? from : month.atDay(1);
+        LocalDate end = to != null ? to : month.atEndOfMonth();
+
+        String etag = dataVersionService.weakETag(user.getId(),
+                start + "_" + end + "-fx" + fxRateService.getSnapshotVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(dashboardService.getPeriodSummary(user.getId(), start, end));
     }
 }
@@ -0,0 +1,48 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.dto.fx.FxRateResponse;
+import com.finance.tracker.dto.fx.FxRatesRequest;
+import com.finance.tracker.service.FxRateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for exchange rates (reference data)
+ * Any user can read the rates; only administrators can store them
+ */
+@RestController
+@RequestMapping("/api/fx-rates")
+@RequiredArgsConstructor
+@Slf4j
+public class FxRateController {
+
+    private final FxRateService fxRateService;
+
+    /**
+     * Get all stored rates
+     * GET /api/fx-rates
+     */
+    @GetMapping
+    public ResponseEntity<List<FxRateResponse>> getAllRates() {
+        log.debug("REST request to get all FX rates");
+        return ResponseEntity.ok(fxRateService.getAllRates());
+    }
+
+    /**
+     * Store rates (insert or replace per pair and date) and reload them
+     * PUT /api/fx-rates
+     */
+    @PutMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> saveRates(@Valid @RequestBody FxRatesRequest request) {
+        log.debug("REST request to store {} FX rates", request.getRates().size());
+        fxRateService.saveRates(request);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.dto.imports.ImportJobResponse;
+import com.finance.tracker.dto.imports.StatementFormat;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.security.RateLimited;
+import com.finance.tracker.service.StatementImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * REST Controller for bank statement imports
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final StatementImportService statementImportService;
+
+    /**
+     * Upload a statement file; the import runs in the background
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited(cost = 20)
+    public ResponseEntity<ImportJobResponse> startImport(
+            @AuthenticationPrincipal User user,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam Long accountId,
+            @RequestParam StatementFormat format,
+            @RequestParam(required = false) String bankCode) {
+
+        log.debug("REST request to import {} statement for user: {}, account: {}", format, user.getId(), accountId);
+        ImportJobResponse job = statementImportService.startImport(user.getId(), accountId, format, bankCode, file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/imports/" + job.getJobId()))
+                .body(job);
+    }
+
+    /**
+     * Get import progress
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID jobId) {
+
+        log.debug("REST request to get import job {} for user: {}", jobId, user.getId());
+        ImportJobResponse job = statementImportService.getImportJob(user.getId(), jobId);
+        return ResponseEntity.ok(job);
+    }
+}
@@ -0,0 +1,58 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.dto.sync.SyncResponse;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.security.RateLimited;
+import com.finance.tracker.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST Controller for delta sync of offline clients
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Slf4j
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Get changes since the sync token (snapshotRequired when there is no usable token)
+     */
+    @GetMapping
+    @RateLimited(cost = 10)
+    public ResponseEntity<SyncResponse> sync(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String token) {
+
+        log.debug("REST request to sync for user: {}", user.getId());
+        SyncResponse response = syncService.sync(user.getId(), token);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Full snapshot as NDJSON; the first line holds the sync token for the next delta
+     * The body is streamed while rows are read, so it is never held in memory
+     */
+    @GetMapping("/snapshot")
+    @RateLimited(cost = 20)
+    public ResponseEntity<StreamingResponseBody> snapshot(@AuthenticationPrincipal User user) {
+        log.debug("REST request for sync snapshot for user: {}", user.getId());
+        Long userId = user.getId();
+        StreamingResponseBody body = out -> syncService.writeSnapshot(userId, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(SyncService.SNAPSHOT_CONTENT_TYPE))
+                .body(body);
+    }
+}
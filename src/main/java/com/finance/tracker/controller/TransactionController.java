@@ -2,16 +2,22 @@ package com.finance.tracker.controller;
 
 import com.finance.tracker.dto.transaction.*;
 import com.finance.tracker.entity.User;
+import com.finance.tracker.security.RateLimited;
+import com.finance.tracker.service.DataVersionService;
+import com.finance.tracker.service.IdempotencyService;
+import com.finance.tracker.service.TransactionExportService;
 import com.finance.tracker.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST Controller for Transaction operations
@@ -23,6 +29,9 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final DataVersionService dataVersionService;
+    private final TransactionExportService transactionExportService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Create a standard transaction (INCOME, EXPENSE, ADJUSTMENT)
@@ -30,10 +39,26 @@ public class TransactionController {
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(
             @AuthenticationPrincipal User user,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TransactionCreateRequest request) {
         
         log.debug("REST request to create transaction for user: {}", user.getId());
-        TransactionResponse response = transactionService.createTransaction(user.getId(), request);
+        TransactionResponse response = idempotencyService.execute(user.getId(), "transaction", idempotencyKey, request,
+                () -> transactionService.createTransaction(user.getId(), request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Create many standard transactions at once; invalid rows are reported, not fatal
+     */
+    @PostMapping("/bulk")
+    @RateLimited(cost = 5)
+    public ResponseEntity<TransactionBulkCreateResponse> createTransactions(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody TransactionBulkCreateRequest request) {
+
+        log.debug("REST request to bulk create {} transactions for user: {}", request.getTransactions().size(), user.getId());
+        TransactionBulkCreateResponse response = transactionService.createTransactions(user.getId(), request.getTransactions());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -43,23 +68,94 @@ public class TransactionController {
     @PostMapping("/transfer")
     public ResponseEntity<TransferResponse> createTransfer(
             @AuthenticationPrincipal User user,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TransferCreateRequest request) {
         
         log.debug("REST request to create transfer for user: {}", user.getId());
-        TransferResponse response = transactionService.createTransfer(user.getId(), request);
+        TransferResponse response = idempotencyService.execute(user.getId(), "transfer", idempotencyKey, request,
+                () -> transactionService.createTransfer(user.getId(), request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
-     * Get all user transactions
+     * Get user transactions, one keyset page at a time
      */
     @GetMapping
-    public ResponseEntity<List<TransactionResponse>> getUserTransactions(
-            @AuthenticationPrincipal User user) {
+    @RateLimited(cost = 2)
+    public ResponseEntity<TransactionPageResponse> getUserTransactions(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TransactionService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
         
-        log.debug("REST request to get all transactions for user: {}", user.getId());
-        List<TransactionResponse> transactions = transactionService.getUserTransactions(user.getId());
-        return ResponseEntity.ok(transactions);
+        log.debug("REST request to get transactions page for user: {}, size: {}", user.getId(), size);
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        TransactionPageResponse page = transactionService.getUserTransactions(user.getId(), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Search transactions by date range, types, accounts, categories, amount range and currency
+     */
+    @GetMapping("/search")
+    @RateLimited(cost = 2)
+    public ResponseEntity<TransactionPageResponse> searchTransactions(
+            @AuthenticationPrincipal User user,
+            @Valid TransactionSearchRequest request,
+            WebRequest webRequest) {
+
+        log.debug("REST request to search transactions for user: {}, request: {}", user.getId(), request);
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        TransactionPageResponse page = transactionService.searchTransactions(user.getId(), request);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Ranked full-text search over description and notes, tolerant to typos
+     */
+    @GetMapping("/search/text")
+    @RateLimited(cost = 2)
+    public ResponseEntity<TransactionTextSearchResponse> searchTransactionsByText(
+            @AuthenticationPrincipal User user,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.debug("REST request to text-search transactions for user: {}, page: {}", user.getId(), page);
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        TransactionTextSearchResponse results = transactionService.searchTransactionsByText(user.getId(), query, page, size);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Export the full transaction history as NDJSON or CSV
+     * The body is streamed while rows are read, so it is never held in memory
+     */
+    @GetMapping("/export")
+    @RateLimited(cost = 20)
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "NDJSON") TransactionExportFormat format) {
+
+        log.debug("REST request to export transactions for user: {}, format: {}", user.getId(), format);
+        Long userId = user.getId();
+        StreamingResponseBody body = out -> transactionExportService.export(userId, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + format.getFileExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -68,9 +164,14 @@ public class TransactionController {
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransactionById(
             @AuthenticationPrincipal User user,
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         
         log.debug("REST request to get transaction: id={}, userId={}", id, user.getId());
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         TransactionResponse transaction = transactionService.getTransactionById(user.getId(), id);
         return ResponseEntity.ok(transaction);
     }
@@ -103,15 +204,22 @@ public class TransactionController {
     }
 
     /**
-     * Get transactions for a specific account
+     * Get transactions for a specific account, one keyset page at a time
      */
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<TransactionResponse>> getAccountTransactions(
+    public ResponseEntity<TransactionPageResponse> getAccountTransactions(
             @AuthenticationPrincipal User user,
-            @PathVariable Long accountId) {
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TransactionService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
         
         log.debug("REST request to get transactions for account: id={}, userId={}", accountId, user.getId());
-        List<TransactionResponse> transactions = transactionService.getAccountTransactions(user.getId(), accountId);
-        return ResponseEntity.ok(transactions);
+        String etag = dataVersionService.weakETag(user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        TransactionPageResponse page = transactionService.getAccountTransactions(user.getId(), accountId, cursor, size);
+        return ResponseEntity.ok(page);
     }
 }
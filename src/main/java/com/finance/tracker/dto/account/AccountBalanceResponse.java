@@ -0,0 +1,25 @@
+package com.finance.tracker.dto.account;
+
+import com.finance.tracker.entity.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for an account balance as of a date (includes transactions dated on that day)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceResponse {
+
+    private Long accountId;
+    private LocalDate asOf;
+    private BigDecimal balance;
+    private Currency currency;
+}
@@ -0,0 +1,46 @@
+package com.finance.tracker.dto.dashboard;
+
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO for the top categories of one transaction type over a date range, in the base currency
+ * Categories outside the top K are merged into `other` (null when there are none)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryBreakdownResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private TransactionType transactionType;
+    private Currency baseCurrency;
+    private BigDecimal total;
+    private List<Item> categories;
+    private Item other;
+    private Set<Currency> unconvertedCurrencies; // left out of the totals: no exchange rate stored (null when none)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long categoryId; // null for uncategorized and for "Other"
+        private String categoryName;
+        private BigDecimal amount;
+        private BigDecimal share; // fraction of total, e.g. 0.2534
+        private long transactionCount;
+        private Integer categoryCount; // only set on "Other"
+    }
+}
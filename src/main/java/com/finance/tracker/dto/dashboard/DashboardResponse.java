@@ -1,14 +1,17 @@
 package com.finance.tracker.dto.dashboard;
 
+import com.finance.tracker.entity.enums.Currency;
 import lombok.Builder;
 import lombok.Data;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Set;
 
 @Data
 @Builder
 public class DashboardResponse {
+    private Currency baseCurrency;
     private BigDecimal totalWealth;
     private BigDecimal totalLiquidAssets;
     private BigDecimal totalAllocatedFunds;
@@ -16,4 +19,5 @@ public class DashboardResponse {
     private BigDecimal monthlyIncome;
     private BigDecimal monthlyExpense;
     private BigDecimal monthlySavings;
+    private Set<Currency> unconvertedCurrencies; // left out of the totals: no exchange rate stored (null when none)
 }
@@ -0,0 +1,29 @@
+package com.finance.tracker.dto.dashboard;
+
+import com.finance.tracker.entity.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * DTO for income, expense and savings over a date range (both ends inclusive), in the base currency
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PeriodSummaryResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Currency baseCurrency;
+    private BigDecimal income;
+    private BigDecimal expense;
+    private BigDecimal savings;
+    private Set<Currency> unconvertedCurrencies; // left out of the totals: no exchange rate stored (null when none)
+}
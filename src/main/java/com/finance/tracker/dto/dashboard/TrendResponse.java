@@ -0,0 +1,46 @@
+package com.finance.tracker.dto.dashboard;
+
+import com.finance.tracker.entity.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for monthly income, expense and savings over the last N months (oldest first)
+ * Figures are per currency in native amounts; months without transactions have an empty map
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendResponse {
+
+    private YearMonth from;
+    private YearMonth to;
+    private List<Month> months;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Month {
+        private YearMonth month;
+        private Map<Currency, Figures> byCurrency;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Figures {
+        private BigDecimal income;
+        private BigDecimal expense;
+        private BigDecimal savings;
+    }
+}
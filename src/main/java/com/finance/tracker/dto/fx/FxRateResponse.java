@@ -0,0 +1,24 @@
+package com.finance.tracker.dto.fx;
+
+import com.finance.tracker.entity.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for one stored exchange rate (1 baseCurrency = rate quoteCurrency from rateDate on)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRateResponse {
+    private Currency baseCurrency;
+    private Currency quoteCurrency;
+    private LocalDate rateDate;
+    private BigDecimal rate;
+}
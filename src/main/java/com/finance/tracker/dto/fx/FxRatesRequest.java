@@ -0,0 +1,54 @@
+package com.finance.tracker.dto.fx;
+
+import com.finance.tracker.entity.enums.Currency;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for storing exchange rates; a rate for an existing (pair, date) replaces it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRatesRequest {
+
+    public static final int MAX_RATES = 1000;
+
+    @NotEmpty(message = "At least one rate is required")
+    @Size(max = MAX_RATES, message = "Cannot store more than " + MAX_RATES + " rates per request")
+    private List<@Valid Rate> rates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Rate {
+
+        @NotNull(message = "Base currency is required")
+        private Currency baseCurrency;
+
+        @NotNull(message = "Quote currency is required")
+        private Currency quoteCurrency;
+
+        @NotNull(message = "Rate date is required")
+        private LocalDate rateDate;
+
+        @NotNull(message = "Rate is required")
+        @DecimalMin(value = "0.00000001", message = "Rate must be positive")
+        @Digits(integer = 10, fraction = 8, message = "Rate must have at most 10 integer and 8 fraction digits")
+        private BigDecimal rate; // units of quote currency per unit of base currency
+    }
+}
@@ -0,0 +1,48 @@
+package com.finance.tracker.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the progress of a statement import job
+ * Poll until status is COMPLETED or FAILED; errors holds the first rejected rows only
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobResponse {
+
+    private UUID jobId;
+    private ImportJobStatus status;
+    private StatementFormat format;
+    private Long accountId;
+    private String bankCode;
+    private long bytesTotal;
+    private long bytesRead;
+    private int percentComplete;
+    private long rowsParsed;
+    private long rowsImported;
+    private long rowsFailed;
+    private List<RowError> errors;
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * Why a statement row was not imported (line is 1-based in the uploaded file)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,11 @@
+package com.finance.tracker.dto.imports;
+
+/**
+ * Lifecycle of a statement import job
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
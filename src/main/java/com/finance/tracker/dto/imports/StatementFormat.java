@@ -0,0 +1,10 @@
+package com.finance.tracker.dto.imports;
+
+/**
+ * Bank statement file formats accepted by the import endpoint
+ */
+public enum StatementFormat {
+    CSV,
+    OFX,
+    QIF
+}
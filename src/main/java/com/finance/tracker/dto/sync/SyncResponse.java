@@ -0,0 +1,33 @@
+package com.finance.tracker.dto.sync;
+
+import com.finance.tracker.dto.account.AccountResponse;
+import com.finance.tracker.dto.allocation.AllocationResponse;
+import com.finance.tracker.dto.category.CategoryResponse;
+import com.finance.tracker.dto.transaction.TransactionResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one delta sync round
+ * The client upserts the returned rows and drops the deleted ids; syncToken is sent with the next
+ * request. When snapshotRequired is true nothing else is set and the client reloads from the snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+
+    private String syncToken;
+    private boolean snapshotRequired;
+    private List<AccountResponse> accounts;
+    private List<CategoryResponse> categories;
+    private List<AllocationResponse> allocations;
+    private List<TransactionResponse> transactions;
+    private List<Long> deletedTransactionIds;
+    private List<Long> deletedAllocationIds;
+}
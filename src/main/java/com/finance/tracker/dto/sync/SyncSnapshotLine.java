@@ -0,0 +1,36 @@
+package com.finance.tracker.dto.sync;
+
+import com.finance.tracker.dto.account.AccountResponse;
+import com.finance.tracker.dto.allocation.AllocationResponse;
+import com.finance.tracker.dto.category.CategoryResponse;
+import com.finance.tracker.dto.transaction.TransactionResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one NDJSON line of a full sync snapshot
+ * The first line carries the syncToken; every other line carries one row, named by kind
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncSnapshotLine {
+
+    private Kind kind;
+    private String syncToken;
+    private AccountResponse account;
+    private CategoryResponse category;
+    private AllocationResponse allocation;
+    private TransactionResponse transaction;
+
+    public enum Kind {
+        SYNC_TOKEN,
+        ACCOUNT,
+        CATEGORY,
+        ALLOCATION,
+        TRANSACTION
+    }
+}
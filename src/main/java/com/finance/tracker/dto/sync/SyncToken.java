@@ -0,0 +1,41 @@
+package com.finance.tracker.dto.sync;
+
+import com.finance.tracker.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync token
+ * Holds the server time at which the previous sync started
+ */
+@Data
+@AllArgsConstructor
+public class SyncToken {
+
+    private LocalDateTime issuedAt;
+
+    /**
+     * Encode as URL-safe Base64 so clients treat it as opaque
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(issuedAt.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously returned by encode()
+     */
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new SyncToken(LocalDateTime.parse(raw));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid sync token");
+        }
+    }
+}
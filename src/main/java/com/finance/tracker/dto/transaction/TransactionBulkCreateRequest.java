@@ -0,0 +1,27 @@
+package com.finance.tracker.dto.transaction;
+
+import com.finance.tracker.service.TransactionService;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for creating many transactions in one call
+ * Rows are validated one by one, so an invalid row is reported without failing the others
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionBulkCreateRequest {
+
+    @NotEmpty(message = "At least one transaction is required")
+    @Size(max = TransactionService.MAX_BULK_SIZE,
+          message = "Cannot create more than " + TransactionService.MAX_BULK_SIZE + " transactions per request")
+    private List<TransactionCreateRequest> transactions;
+}
@@ -0,0 +1,36 @@
+package com.finance.tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk create
+ * ids is aligned with the request rows; failed rows have a null id and an entry in errors
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionBulkCreateResponse {
+
+    private int received;
+    private int created;
+    private int failed;
+    private List<Long> ids;
+    private List<RowError> errors;
+
+    /**
+     * Why a single row was rejected (index is zero-based in the request)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int index;
+        private String message;
+    }
+}
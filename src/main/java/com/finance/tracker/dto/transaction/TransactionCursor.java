@@ -0,0 +1,48 @@
+package com.finance.tracker.dto.transaction;
+
+import com.finance.tracker.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction listings
+ * Points at the last row of a page ordered by (transactionDate DESC, id DESC)
+ */
+@Data
+@AllArgsConstructor
+public class TransactionCursor {
+
+    private LocalDate transactionDate;
+    private Long id;
+
+    /**
+     * Encode as URL-safe Base64 so clients treat it as opaque
+     */
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned by encode()
+     */
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.finance.tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of transactions
+ * nextCursor is null when there are no more rows
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionPageResponse {
+
+    private List<TransactionResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,90 @@
+package com.finance.tracker.dto.transaction;
+
+import com.finance.tracker.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction search
+ * Carries the sort key value of the last row plus its id, and is only valid
+ * for the sort key and direction it was issued for
+ */
+@Data
+@AllArgsConstructor
+public class TransactionSearchCursor {
+
+    private TransactionSortKey sort;
+    private Sort.Direction direction;
+    private String value;
+    private Long id;
+
+    /**
+     * Build a cursor pointing at the given row
+     */
+    public static TransactionSearchCursor of(TransactionSortKey sort, Sort.Direction direction,
+                                             LocalDate transactionDate, BigDecimal amount, Long id) {
+        String value = sort == TransactionSortKey.AMOUNT ? amount.toPlainString() : transactionDate.toString();
+        return new TransactionSearchCursor(sort, direction, value, id);
+    }
+
+    /**
+     * Sort key value as a date (DATE cursors only)
+     */
+    public LocalDate dateValue() {
+        return LocalDate.parse(value);
+    }
+
+    /**
+     * Sort key value as an amount (AMOUNT cursors only)
+     */
+    public BigDecimal amountValue() {
+        return new BigDecimal(value);
+    }
+
+    /**
+     * Encode as URL-safe Base64 so clients treat it as opaque
+     */
+    public String encode() {
+        String raw = sort + "|" + direction + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor and check it matches the requested sort
+     */
+    public static TransactionSearchCursor decode(String cursor, TransactionSortKey sort, Sort.Direction direction) {
+        TransactionSearchCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            decoded = new TransactionSearchCursor(
+                    TransactionSortKey.valueOf(parts[0]),
+                    Sort.Direction.valueOf(parts[1]),
+                    parts[2],
+                    Long.parseLong(parts[3]));
+            // Validate the value eagerly so a bad cursor fails here and not in SQL binding
+            if (decoded.getSort() == TransactionSortKey.AMOUNT) {
+                decoded.amountValue();
+            } else {
+                decoded.dateValue();
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+
+        if (decoded.getSort() != sort || decoded.getDirection() != direction) {
+            throw new InvalidRequestException("Cursor was issued for a different sort order");
+        }
+        return decoded;
+    }
+}
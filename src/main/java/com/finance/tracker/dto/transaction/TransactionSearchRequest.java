@@ -0,0 +1,61 @@
+package com.finance.tracker.dto.transaction;
+
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for transaction search (bound from query parameters)
+ * Every filter is optional; only the supplied ones become SQL predicates
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionSearchRequest {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private List<TransactionType> types;
+
+    private List<Long> accountIds;
+
+    private List<Long> categoryIds;
+
+    @PositiveOrZero(message = "Minimum amount cannot be negative")
+    private BigDecimal minAmount;
+
+    @PositiveOrZero(message = "Maximum amount cannot be negative")
+    private BigDecimal maxAmount;
+
+    private Currency currency;
+
+    @Builder.Default
+    private TransactionSortKey sort = TransactionSortKey.DATE;
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size cannot exceed 200")
+    @Builder.Default
+    private int size = 50;
+}
@@ -0,0 +1,10 @@
+package com.finance.tracker.dto.transaction;
+
+/**
+ * Sort keys supported by transaction search
+ * Every key is paired with id as a tie-breaker for keyset paging
+ */
+public enum TransactionSortKey {
+    DATE,
+    AMOUNT
+}
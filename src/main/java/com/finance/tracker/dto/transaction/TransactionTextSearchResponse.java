@@ -0,0 +1,24 @@
+package com.finance.tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of ranked full-text search results
+ * Items are ordered by relevance, best match first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionTextSearchResponse {
+
+    private List<TransactionResponse> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
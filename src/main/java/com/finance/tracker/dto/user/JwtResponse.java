@@ -9,8 +9,10 @@ import lombok.Data;
 @Builder
 public class JwtResponse {
     private String accessToken;
+    private String refreshToken;
     @Builder.Default
     private String tokenType = "Bearer";
+    private Long expiresIn; // access token lifetime in seconds
     private Long id;
     private String email;
 }
@@ -17,12 +17,13 @@ import java.time.LocalDateTime;
 
 /**
  * Account entity - Represents user's bank accounts (checking/savings)
- * Balances are computed from transactions, not stored here
+ * Balances are maintained in account_balances (see AccountBalance), not stored here
  */
 @Entity
 @Table(name = "accounts", indexes = {
     @Index(name = "idx_accounts_user_id", columnList = "user_id"),
-    @Index(name = "idx_accounts_bank_id", columnList = "bank_id")
+    @Index(name = "idx_accounts_bank_id", columnList = "bank_id"),
+    @Index(name = "idx_accounts_user_updated", columnList = "user_id, updated_at")
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,38 @@
+package com.finance.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * AccountBalance entity - Materialized running balance of one account
+ * Written only through AccountBalanceRepository's upserts, so it maps plain ids instead of associations
+ */
+@Entity
+@Table(name = "account_balances", indexes = {
+    @Index(name = "idx_account_balances_user_id", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalance {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, precision = 17, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,50 @@
+package com.finance.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * AccountBalanceCheckpoint entity - Closing balance of an account at a month end
+ * Includes every transaction dated on or before monthEnd
+ */
+@Entity
+@Table(name = "account_balance_checkpoints")
+@IdClass(AccountBalanceCheckpoint.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceCheckpoint {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "month_end")
+    private LocalDate monthEnd;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "closing_balance", nullable = false, precision = 17, scale = 2)
+    private BigDecimal closingBalance;
+
+    /**
+     * Composite primary key (account_id, month_end)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long accountId;
+        private LocalDate monthEnd;
+    }
+}
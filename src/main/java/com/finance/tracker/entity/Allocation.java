@@ -18,7 +18,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "allocations")
+@Table(name = "allocations", indexes = {
+    @Index(name = "idx_allocations_user_updated", columnList = "user_id, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,7 +29,8 @@ import java.time.LocalDateTime;
         )
     },
     indexes = {
-        @Index(name = "idx_categories_user_id", columnList = "user_id")
+        @Index(name = "idx_categories_user_id", columnList = "user_id"),
+        @Index(name = "idx_categories_user_updated", columnList = "user_id, updated_at")
     }
 )
 @Data
@@ -0,0 +1,59 @@
+package com.finance.tracker.entity;
+
+import com.finance.tracker.entity.enums.Currency;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * FxRate entity - Exchange rate of a currency pair effective from a date
+ * 1 unit of baseCurrency = rate units of quoteCurrency
+ */
+@Entity
+@Table(name = "fx_rates")
+@IdClass(FxRate.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRate {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "base_currency", length = 3)
+    private Currency baseCurrency;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quote_currency", length = 3)
+    private Currency quoteCurrency;
+
+    @Id
+    @Column(name = "rate_date")
+    private LocalDate rateDate;
+
+    @Column(nullable = false, precision = 18, scale = 8)
+    private BigDecimal rate;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Composite primary key (base_currency, quote_currency, rate_date)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Currency baseCurrency;
+        private Currency quoteCurrency;
+        private LocalDate rateDate;
+    }
+}
@@ -0,0 +1,59 @@
+package com.finance.tracker.entity;
+
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * MonthlyRollup entity - Sum and count of a user's transactions per month, category, type and currency
+ * Written only through MonthlyRollupRepository's upserts, so it maps plain ids instead of associations
+ */
+@Entity
+@Table(name = "monthly_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_monthly_rollups_key",
+            columnNames = {"user_id", "month_start", "category_id", "transaction_type", "currency"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 3)
+    private Currency currency;
+
+    @Column(nullable = false, precision = 17, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long txnCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
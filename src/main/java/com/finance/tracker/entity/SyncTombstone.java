@@ -0,0 +1,49 @@
+package com.finance.tracker.entity;
+
+import com.finance.tracker.entity.enums.SyncEntityType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * SyncTombstone entity - Records a hard delete so delta sync clients can drop the row
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstones_user_deleted", columnList = "user_id, deleted_at"),
+    @Index(name = "idx_sync_tombstones_deleted", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "User is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @NotNull(message = "Entity type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @NotNull(message = "Entity ID is required")
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
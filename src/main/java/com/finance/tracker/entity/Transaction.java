@@ -29,13 +29,14 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_transactions_user_id", columnList = "user_id"),
-    @Index(name = "idx_transactions_account_id", columnList = "account_id"),
     @Index(name = "idx_transactions_category_id", columnList = "category_id"),
-    @Index(name = "idx_transactions_date", columnList = "transaction_date"),
-    @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date"),
-    @Index(name = "idx_transactions_type", columnList = "transaction_type"),
-    @Index(name = "idx_transactions_transfer_group", columnList = "transfer_group_id")
+    @Index(name = "idx_transactions_user_date_id", columnList = "user_id, transaction_date DESC, id DESC"),
+    @Index(name = "idx_transactions_account_date_id", columnList = "account_id, transaction_date DESC, id DESC"),
+    @Index(name = "idx_transactions_user_type_date_id", columnList = "user_id, transaction_type, transaction_date DESC, id DESC"),
+    @Index(name = "idx_transactions_user_category_date_id", columnList = "user_id, category_id, transaction_date DESC, id DESC"),
+    @Index(name = "idx_transactions_user_amount_id", columnList = "user_id, amount DESC, id DESC"),
+    @Index(name = "idx_transactions_transfer_group", columnList = "transfer_group_id"),
+    @Index(name = "idx_transactions_user_updated", columnList = "user_id, updated_at")
 })
 @Data
 @NoArgsConstructor
@@ -44,7 +45,8 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_id_seq")
+    @SequenceGenerator(name = "transactions_id_seq", sequenceName = "transactions_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "User is required")
@@ -125,6 +127,16 @@ public class Transaction {
                transactionType == TransactionType.EXPENSE;
     }
 
+    /**
+     * Effect on the account balance: INCOME, ADJUSTMENT and incoming transfers add,
+     * EXPENSE and outgoing transfers subtract
+     */
+    public BigDecimal signedAmount() {
+        boolean debit = transactionType == TransactionType.EXPENSE
+                || (transactionType == TransactionType.TRANSFER && transferDirection == TransferDirection.OUT);
+        return debit ? amount.negate() : amount;
+    }
+
     /**
      * Validate transfer constraints
      */
@@ -13,11 +13,13 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * User entity - represents authenticated users in the system
@@ -33,6 +35,8 @@ import java.util.Collections;
 @Builder
 public class User implements UserDetails {
 
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -67,6 +71,27 @@ public class User implements UserDetails {
     @Builder.Default
     private Boolean isActive = true;
 
+    /**
+     * Bumped by DataVersionService with a bulk UPDATE; never written through the entity
+     */
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Long dataVersion = 0L;
+
+    /**
+     * Carried in access tokens; bumped by TokenVersionService to revoke them. Never written through the entity
+     */
+    @Column(name = "token_version", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
+    /**
+     * Grants ROLE_ADMIN; set directly in the database, never written through the entity
+     */
+    @Column(name = "is_admin", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Boolean isAdmin = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -81,8 +106,7 @@ public class User implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // For Phase 1, no roles/authorities needed
-        return Collections.emptyList();
+        return Boolean.TRUE.equals(isAdmin) ? ADMIN_AUTHORITIES : Collections.emptyList();
     }
 
     @Override
@@ -0,0 +1,10 @@
+package com.finance.tracker.entity.enums;
+
+/**
+ * Entity types that are hard-deleted and therefore need sync tombstones
+ * Accounts and categories are soft-deleted and sync as ordinary updates
+ */
+public enum SyncEntityType {
+    TRANSACTION,
+    ALLOCATION
+}
@@ -0,0 +1,10 @@
+package com.finance.tracker.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, already used or revoked
+ */
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.finance.tracker.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a bounded worker pool is saturated and the request is shed
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -31,6 +31,7 @@ public interface AccountMapper {
     @Mapping(target = "bankId", source = "bank.id")
     @Mapping(target = "bankName", source = "bank.name")
     @Mapping(target = "displayName", expression = "java(buildDisplayName(account))")
+    @Mapping(target = "balance", ignore = true) // Set in service from account_balances
     AccountResponse toResponse(Account account);
 
     /**
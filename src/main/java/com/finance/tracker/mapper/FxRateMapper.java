@@ -0,0 +1,25 @@
+package com.finance.tracker.mapper;
+
+import com.finance.tracker.dto.fx.FxRateResponse;
+import com.finance.tracker.dto.fx.FxRatesRequest;
+import com.finance.tracker.entity.FxRate;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for FxRate entity
+ */
+@Mapper(componentModel = "spring")
+public interface FxRateMapper {
+
+    /**
+     * Map one requested rate to an entity (created_at is set by the database)
+     */
+    @Mapping(target = "createdAt", ignore = true)
+    FxRate toEntity(FxRatesRequest.Rate rate);
+
+    /**
+     * Map FxRate entity to response DTO
+     */
+    FxRateResponse toResponse(FxRate rate);
+}
@@ -18,6 +18,9 @@ public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "password", ignore = true) // Handled in service with BCrypt
     @Mapping(target = "isActive", constant = "true")
+    @Mapping(target = "dataVersion", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
+    @Mapping(target = "isAdmin", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     User toEntity(UserRegistrationRequest request);
@@ -38,6 +41,9 @@ public interface UserMapper {
     @Mapping(target = "password", ignore = true)
     @Mapping(target = "baseCurrency", ignore = true)
     @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "dataVersion", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
+    @Mapping(target = "isAdmin", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(@MappingTarget User user, com.finance.tracker.dto.user.UserUpdateRequest request);
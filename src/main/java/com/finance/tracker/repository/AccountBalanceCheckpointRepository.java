@@ -0,0 +1,41 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.AccountBalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repository for AccountBalanceCheckpoint entity
+ */
+@Repository
+public interface AccountBalanceCheckpointRepository
+        extends JpaRepository<AccountBalanceCheckpoint, AccountBalanceCheckpoint.Key> {
+
+    /**
+     * Nearest checkpoint on or before a date (primary key range scan)
+     */
+    Optional<AccountBalanceCheckpoint> findFirstByAccountIdAndMonthEndLessThanEqualOrderByMonthEndDesc(
+            Long accountId, LocalDate date);
+
+    /**
+     * Latest checkpoint of an account
+     */
+    Optional<AccountBalanceCheckpoint> findFirstByAccountIdOrderByMonthEndDesc(Long accountId);
+
+    /**
+     * Shift every checkpoint at or after a month end by a delta (back-dated write)
+     */
+    @Modifying
+    @Query("UPDATE AccountBalanceCheckpoint c SET c.closingBalance = c.closingBalance + :delta " +
+           "WHERE c.accountId = :accountId AND c.monthEnd >= :fromMonthEnd")
+    int shift(@Param("accountId") Long accountId,
+              @Param("fromMonthEnd") LocalDate fromMonthEnd,
+              @Param("delta") BigDecimal delta);
+}
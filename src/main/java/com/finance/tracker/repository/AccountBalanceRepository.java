@@ -0,0 +1,77 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.AccountBalance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for AccountBalance entity
+ */
+@Repository
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, Long> {
+
+    /**
+     * Signed balance effect of a transaction row, shared by the rebuild queries
+     */
+    String SIGNED_AMOUNT = "CASE WHEN t.transaction_type = 'EXPENSE' THEN -t.amount " +
+                           "WHEN t.transaction_type = 'TRANSFER' AND t.transfer_direction = 'OUT' THEN -t.amount " +
+                           "ELSE t.amount END";
+
+    /**
+     * All balances of a user (accounts without a row have a zero balance)
+     */
+    List<AccountBalance> findByUserId(Long userId);
+
+    /**
+     * Balance of one account
+     */
+    @Query("SELECT b.balance FROM AccountBalance b WHERE b.accountId = :accountId")
+    Optional<BigDecimal> findBalanceByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Add a signed delta to an account's balance, creating the row on first use
+     * The row lock taken here serializes concurrent writers of the same account
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_balances (account_id, user_id, balance, updated_at) " +
+                   "VALUES (:accountId, :userId, :delta, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (account_id) DO UPDATE " +
+                   "SET balance = account_balances.balance + EXCLUDED.balance, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void applyDelta(@Param("accountId") Long accountId, @Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    /**
+     * Make sure an account has a balance row and lock it until commit
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_balances (account_id, user_id, balance) " +
+                   "SELECT a.id, a.user_id, 0 FROM accounts a WHERE a.id = :accountId " +
+                   "ON CONFLICT (account_id) DO UPDATE SET updated_at = account_balances.updated_at",
+           nativeQuery = true)
+    void lockForRebuild(@Param("accountId") Long accountId);
+
+    /**
+     * Recompute one account's balance from its full history
+     * Must run after lockForRebuild in the same transaction, so no committed write is missed
+     */
+    @Modifying
+    @Query(value = "UPDATE account_balances SET updated_at = CURRENT_TIMESTAMP, balance = " +
+                   "(SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) FROM transactions t WHERE t.account_id = :accountId) " +
+                   "WHERE account_id = :accountId",
+           nativeQuery = true)
+    void recompute(@Param("accountId") Long accountId);
+
+    /**
+     * Ids of all accounts after the given id, for the paged rebuild job
+     */
+    @Query("SELECT a.id FROM Account a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findAccountIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
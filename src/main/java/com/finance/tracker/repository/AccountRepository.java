@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +45,21 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByIdAndUser_Id(@Param("accountId") Long accountId,
                                          @Param("userId") Long userId);
 
+    /**
+     * Find accounts created, updated or with a balance change after the given time (delta sync)
+     * Balance changes only touch account_balances, so they are checked there
+     */
+    @EntityGraph(attributePaths = {"bank"})
+    @Query("SELECT a FROM Account a WHERE a.user.id = :userId AND (a.updatedAt > :since OR EXISTS " +
+           "(SELECT 1 FROM AccountBalance b WHERE b.accountId = a.id AND b.updatedAt > :since))")
+    List<Account> findChangedAfter(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * Find the user's accounts among the given ids (bulk ownership check)
+     */
+    @EntityGraph(attributePaths = {"bank"})
+    List<Account> findByUser_IdAndIdIn(Long userId, Collection<Long> accountIds);
+
     /**
      * Check if account belongs to user
      */
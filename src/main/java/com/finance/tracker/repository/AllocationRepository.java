@@ -2,15 +2,20 @@ package com.finance.tracker.repository;
 
 import com.finance.tracker.entity.Allocation;
 import com.finance.tracker.entity.enums.AllocationStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AllocationRepository extends JpaRepository<Allocation, Long> {
+    @EntityGraph(attributePaths = {"account"})
     List<Allocation> findByUser_Id(Long userId);
+    @EntityGraph(attributePaths = {"account"})
+    List<Allocation> findByUser_IdAndUpdatedAtAfter(Long userId, LocalDateTime since);
     List<Allocation> findByUser_IdAndAllocationStatus(Long userId, AllocationStatus status);
     Optional<Allocation> findByIdAndUser_Id(Long id, Long userId);
 }
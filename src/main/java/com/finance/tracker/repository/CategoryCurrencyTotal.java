@@ -0,0 +1,20 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.enums.Currency;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of one grouped SUM row: total amount and transaction count per category and currency
+ * categoryId is null for uncategorized transactions
+ */
+public interface CategoryCurrencyTotal {
+
+    Long getCategoryId();
+
+    Currency getCurrency();
+
+    BigDecimal getTotal();
+
+    Long getTxnCount();
+}
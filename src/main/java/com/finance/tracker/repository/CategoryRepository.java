@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,11 +45,21 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByIdAndUser_Id(@Param("categoryId") Long categoryId,
                                           @Param("userId") Long userId);
 
+    /**
+     * Find categories created or updated after the given time (delta sync)
+     */
+    List<Category> findByUser_IdAndUpdatedAtAfter(Long userId, LocalDateTime since);
+
     /**
      * Check if category with same name and type exists for user
      */
     boolean existsByUser_IdAndNameAndType(Long userId, String name, CategoryType type);
 
+    /**
+     * Find the user's categories among the given ids (bulk ownership check)
+     */
+    List<Category> findByUser_IdAndIdIn(Long userId, Collection<Long> categoryIds);
+
     /**
      * Check if category belongs to user
      */
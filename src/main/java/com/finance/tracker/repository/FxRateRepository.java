@@ -0,0 +1,21 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.FxRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for FxRate entity
+ */
+@Repository
+public interface FxRateRepository extends JpaRepository<FxRate, FxRate.Key> {
+
+    /**
+     * Every stored rate, grouped by pair and oldest first (snapshot load)
+     */
+    @Query("SELECT r FROM FxRate r ORDER BY r.baseCurrency, r.quoteCurrency, r.rateDate")
+    List<FxRate> findAllOrdered();
+}
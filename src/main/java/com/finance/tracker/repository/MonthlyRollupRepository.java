@@ -0,0 +1,106 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.MonthlyRollup;
+import com.finance.tracker.entity.enums.TransactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for MonthlyRollup entity
+ */
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    /**
+     * All rollup rows of a user
+     */
+    List<MonthlyRollup> findByUserId(Long userId);
+
+    /**
+     * Income and expense totals per type and currency for whole months in [fromMonth, toMonth]
+     * Reads one row per (month, category, type, currency) instead of the transactions themselves
+     */
+    @Query("SELECT r.transactionType AS transactionType, r.currency AS currency, SUM(r.total) AS total " +
+           "FROM MonthlyRollup r " +
+           "WHERE r.userId = :userId AND r.monthStart BETWEEN :fromMonth AND :toMonth " +
+           "AND r.transactionType IN (com.finance.tracker.entity.enums.TransactionType.INCOME, " +
+           "com.finance.tracker.entity.enums.TransactionType.EXPENSE) " +
+           "GROUP BY r.transactionType, r.currency")
+    List<TransactionTypeTotal> sumByTypeAndCurrency(
+            @Param("userId") Long userId,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+
+    /**
+     * Income and expense totals per month, type and currency for months in [fromMonth, toMonth] (trend)
+     */
+    @Query("SELECT r.monthStart AS monthStart, r.transactionType AS transactionType, r.currency AS currency, " +
+           "SUM(r.total) AS total " +
+           "FROM MonthlyRollup r " +
+           "WHERE r.userId = :userId AND r.monthStart BETWEEN :fromMonth AND :toMonth " +
+           "AND r.transactionType IN (com.finance.tracker.entity.enums.TransactionType.INCOME, " +
+           "com.finance.tracker.entity.enums.TransactionType.EXPENSE) " +
+           "GROUP BY r.monthStart, r.transactionType, r.currency")
+    List<MonthlyTypeTotal> sumByMonthTypeAndCurrency(
+            @Param("userId") Long userId,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+
+    /**
+     * Totals per category and currency of one transaction type for months in [fromMonth, toMonth]
+     */
+    @Query("SELECT r.categoryId AS categoryId, r.currency AS currency, " +
+           "SUM(r.total) AS total, SUM(r.txnCount) AS txnCount " +
+           "FROM MonthlyRollup r " +
+           "WHERE r.userId = :userId AND r.transactionType = :type " +
+           "AND r.monthStart BETWEEN :fromMonth AND :toMonth " +
+           "GROUP BY r.categoryId, r.currency")
+    List<CategoryCurrencyTotal> sumByCategoryAndCurrency(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+
+    /**
+     * Add an amount and count delta to one rollup row, creating it on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups " +
+                   "(user_id, month_start, category_id, transaction_type, currency, total, txn_count, updated_at) " +
+                   "VALUES (:userId, :monthStart, CAST(:categoryId AS BIGINT), " +
+                   "CAST(:transactionType AS transaction_type), CAST(:currency AS currency_type), " +
+                   ":total, :txnCount, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT ON CONSTRAINT uk_monthly_rollups_key DO UPDATE " +
+                   "SET total = monthly_rollups.total + EXCLUDED.total, " +
+                   "txn_count = monthly_rollups.txn_count + EXCLUDED.txn_count, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void applyDelta(
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("categoryId") Long categoryId,
+            @Param("transactionType") String transactionType,
+            @Param("currency") String currency,
+            @Param("total") BigDecimal total,
+            @Param("txnCount") long txnCount);
+
+    /**
+     * Drop a user's rows that no longer count any transaction
+     */
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.userId = :userId AND r.txnCount = 0 AND r.total = 0")
+    int deleteEmpty(@Param("userId") Long userId);
+
+    /**
+     * Ids of all users after the given id, for the paged reconciliation job
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of one month's transaction totals recomputed from the base table (rollup reconciliation)
+ */
+public interface MonthlyRollupTotal {
+
+    Integer getYear();
+
+    Integer getMonth();
+
+    Long getCategoryId();
+
+    TransactionType getTransactionType();
+
+    Currency getCurrency();
+
+    BigDecimal getTotal();
+
+    Long getTxnCount();
+}
@@ -0,0 +1,21 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection of one grouped SUM row: total amount per month, transaction type and currency
+ */
+public interface MonthlyTypeTotal {
+
+    LocalDate getMonthStart();
+
+    TransactionType getTransactionType();
+
+    Currency getCurrency();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,54 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for RefreshToken entity
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Find a refresh token by the hash of its value
+     */
+    Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * Delete one refresh token; returns 0 when it was already rotated or revoked
+     * The row lock makes this the single point that decides which concurrent refresh wins
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id = :id")
+    int deleteOne(@Param("id") Long id);
+
+    /**
+     * Delete a refresh token by the hash of its value
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.token = :token")
+    int deleteByTokenHash(@Param("token") String token);
+
+    /**
+     * Delete every refresh token of a user
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Delete up to `limit` expired tokens, oldest first (walks idx_refresh_tokens_expiry)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+                   "SELECT id FROM refresh_tokens WHERE expiry_date < :now ORDER BY expiry_date LIMIT :limit)",
+           nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
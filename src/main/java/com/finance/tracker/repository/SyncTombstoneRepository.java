@@ -0,0 +1,31 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for SyncTombstone entity
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    /**
+     * Find tombstones recorded for a user after the given time
+     */
+    @Query("SELECT s FROM SyncTombstone s WHERE s.user.id = :userId AND s.deletedAt > :since")
+    List<SyncTombstone> findByUserIdDeletedAfter(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * Purge tombstones older than the retention window
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstone s WHERE s.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,36 +1,142 @@
 package com.finance.tracker.repository;
 
+import com.finance.tracker.dto.transaction.TransactionResponse;
 import com.finance.tracker.entity.Transaction;
 import com.finance.tracker.entity.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Transaction entity
  * Uses nested property syntax (user_Id, account_Id) for derived queries
  */
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionSearchRepository {
 
     /**
-     * Find all transactions for a user (with account and category loaded)
+     * JPQL constructor projection straight into TransactionResponse
+     * Joins account, bank and category once; rows never enter the persistence context
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByUser_IdOrderByTransactionDateDesc(Long userId);
+    String RESPONSE_PROJECTION =
+            "SELECT new com.finance.tracker.dto.transaction.TransactionResponse(" +
+            "t.id, a.id, CONCAT(b.name, ' - ', a.name), c.id, c.name, " +
+            "t.transactionType, t.transferDirection, t.transferGroupId, t.amount, t.currency, " +
+            "t.transactionDate, t.description, t.fxRateToBase, t.notes, t.createdAt, t.updatedAt) " +
+            "FROM Transaction t JOIN t.account a JOIN a.bank b LEFT JOIN t.category c ";
 
     /**
-     * Find all transactions for a specific account
+     * JPQL expression for a transaction's signed balance effect (see Transaction.signedAmount)
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByAccount_IdOrderByTransactionDateDesc(Long accountId);
+    String SIGNED_AMOUNT =
+            "CASE WHEN t.transactionType = com.finance.tracker.entity.enums.TransactionType.EXPENSE THEN -t.amount " +
+            "WHEN t.transactionType = com.finance.tracker.entity.enums.TransactionType.TRANSFER " +
+            "AND t.transferDirection = com.finance.tracker.entity.enums.TransferDirection.OUT THEN -t.amount " +
+            "ELSE t.amount END";
+
+    /**
+     * Rows fetched per round trip by server-side cursors (exports)
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * First keyset page of a user's transactions as response projections
+     * Served by idx_transactions_user_date_id; page size comes from the Pageable
+     */
+    @Query(RESPONSE_PROJECTION +
+           "WHERE t.user.id = :userId ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageByUser(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Next keyset page of a user's transactions, strictly after the cursor row
+     */
+    @Query(RESPONSE_PROJECTION +
+           "WHERE t.user.id = :userId " +
+           "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageByUserAfter(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * First keyset page of an account's transactions as response projections
+     * Served by idx_transactions_account_date_id
+     */
+    @Query(RESPONSE_PROJECTION +
+           "WHERE t.account.id = :accountId ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageByAccount(@Param("accountId") Long accountId, Pageable pageable);
+
+    /**
+     * Next keyset page of an account's transactions, strictly after the cursor row
+     */
+    @Query(RESPONSE_PROJECTION +
+           "WHERE t.account.id = :accountId " +
+           "AND (t.transactionDate < :date OR (t.transactionDate = :date AND t.id < :id)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageByAccountAfter(
+            @Param("accountId") Long accountId,
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * Stream every transaction of a user as response projections, newest first (export, sync snapshot)
+     * Must be consumed inside a transaction so PostgreSQL uses a server-side cursor
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(RESPONSE_PROJECTION +
+           "WHERE t.user.id = :userId ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<TransactionResponse> streamByUser(@Param("userId") Long userId);
+
+    /**
+     * Transactions created or updated after the given time (delta sync)
+     * Served by idx_transactions_user_updated
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE t.user.id = :userId AND t.updatedAt > :since ORDER BY t.id")
+    List<TransactionResponse> findResponsesUpdatedAfter(
+            @Param("userId") Long userId,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Ranked ids of a user's transactions matching a text query
+     * Matches either the full-text vector (description + notes) or, for typos,
+     * trigram word similarity on the description; both paths are GIN indexed by (user_id, ...)
+     */
+    @Query(value = "SELECT t.id FROM transactions t " +
+                   "WHERE t.user_id = :userId " +
+                   "AND (t.search_vector @@ websearch_to_tsquery('simple', :query) OR :query <% t.description) " +
+                   "ORDER BY ts_rank(t.search_vector, websearch_to_tsquery('simple', :query)) " +
+                   "+ word_similarity(:query, t.description) DESC, t.id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Long> searchIdsByText(
+            @Param("userId") Long userId,
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    /**
+     * Load response projections by ids (order is not preserved)
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE t.id IN :ids")
+    List<TransactionResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Find transaction by ID and user ID (authorization check)
@@ -48,45 +154,84 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findByTransferGroupId(UUID transferGroupId);
 
     /**
-     * Find transactions by user and date range
+     * Income and expense totals per type and currency for a date range (both ends inclusive)
+     * Only scalars leave the database; served by idx_transactions_user_date_id (covering)
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByUser_IdAndTransactionDateBetweenOrderByTransactionDateDesc(
-            Long userId, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT t.transactionType AS transactionType, t.currency AS currency, SUM(t.amount) AS total " +
+           "FROM Transaction t " +
+           "WHERE t.user.id = :userId AND t.transactionDate BETWEEN :from AND :to " +
+           "AND t.transactionType IN (com.finance.tracker.entity.enums.TransactionType.INCOME, " +
+           "com.finance.tracker.entity.enums.TransactionType.EXPENSE) " +
+           "GROUP BY t.transactionType, t.currency")
+    List<TransactionTypeTotal> sumByTypeAndCurrency(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
 
     /**
-     * Find transactions by user, account, and date range
+     * Totals per category and currency of one transaction type for a date range (both ends inclusive)
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByUser_IdAndAccount_IdAndTransactionDateBetweenOrderByTransactionDateDesc(
-            Long userId, Long accountId, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT t.category.id AS categoryId, t.currency AS currency, SUM(t.amount) AS total, COUNT(t) AS txnCount " +
+           "FROM Transaction t " +
+           "WHERE t.user.id = :userId AND t.transactionType = :type AND t.transactionDate BETWEEN :from AND :to " +
+           "GROUP BY t.category.id, t.currency")
+    List<CategoryCurrencyTotal> sumByCategoryAndCurrency(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
 
     /**
-     * Find transactions by user and type (for reports - excludes TRANSFER)
+     * A user's transaction totals per month, category, type and currency (rollup reconciliation)
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByUser_IdAndTransactionTypeOrderByTransactionDateDesc(
-            Long userId, TransactionType transactionType);
+    @Query("SELECT YEAR(t.transactionDate) AS year, MONTH(t.transactionDate) AS month, " +
+           "t.category.id AS categoryId, t.transactionType AS transactionType, t.currency AS currency, " +
+           "SUM(t.amount) AS total, COUNT(t) AS txnCount " +
+           "FROM Transaction t WHERE t.user.id = :userId " +
+           "GROUP BY YEAR(t.transactionDate), MONTH(t.transactionDate), t.category.id, t.transactionType, t.currency")
+    List<MonthlyRollupTotal> sumMonthlyByUser(@Param("userId") Long userId);
 
     /**
-     * Find transactions by user, type, and date range (for reports)
+     * Net balance effect of an account's transactions dated in (after, upTo]
+     * Served by idx_transactions_account_date_id
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByUser_IdAndTransactionTypeAndTransactionDateBetweenOrderByTransactionDateDesc(
-            Long userId, TransactionType transactionType, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) FROM Transaction t " +
+           "WHERE t.account.id = :accountId AND t.transactionDate > :after AND t.transactionDate <= :upTo")
+    BigDecimal sumSignedAmountByAccountBetween(
+            @Param("accountId") Long accountId,
+            @Param("after") LocalDate after,
+            @Param("upTo") LocalDate upTo);
 
     /**
-     * Find transactions by user and category
+     * Net balance effect of an account's transactions dated on or before a date
      */
-    @EntityGraph(attributePaths = {"account", "account.bank", "category"})
-    List<Transaction> findByUser_IdAndCategory_IdOrderByTransactionDateDesc(
-            Long userId, Long categoryId);
+    @Query("SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) FROM Transaction t " +
+           "WHERE t.account.id = :accountId AND t.transactionDate <= :upTo")
+    BigDecimal sumSignedAmountByAccountUpTo(@Param("accountId") Long accountId, @Param("upTo") LocalDate upTo);
+
+    /**
+     * Date of an account's first transaction
+     */
+    @Query("SELECT MIN(t.transactionDate) FROM Transaction t WHERE t.account.id = :accountId")
+    Optional<LocalDate> findFirstTransactionDateByAccount(@Param("accountId") Long accountId);
 
     /**
      * Check if transaction belongs to user
      */
     boolean existsByIdAndUser_Id(Long transactionId, Long userId);
 
+    /**
+     * Load the user's account (with bank) and, when categoryId is given, the user's category in one query
+     * Returns no row when the account is not owned; the category slot is null when it is not owned
+     */
+    @Query("SELECT a, c FROM Account a JOIN FETCH a.bank " +
+           "LEFT JOIN Category c ON c.id = :categoryId AND c.user.id = :userId " +
+           "WHERE a.id = :accountId AND a.user.id = :userId")
+    List<Object[]> findOwnedAccountAndCategory(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId);
+
     /**
      * Check if account belongs to user (for validation)
      */
@@ -0,0 +1,21 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.dto.transaction.TransactionResponse;
+import com.finance.tracker.dto.transaction.TransactionSearchCursor;
+import com.finance.tracker.dto.transaction.TransactionSearchRequest;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for composable transaction search
+ * Implemented with the Criteria API so only supplied filters reach the SQL
+ */
+public interface TransactionSearchRepository {
+
+    /**
+     * Find at most limit transactions of a user matching the request filters,
+     * ordered by the requested sort key and id, strictly after the cursor row (if any)
+     * Rows are returned as response projections, not managed entities
+     */
+    List<TransactionResponse> search(Long userId, TransactionSearchRequest request, TransactionSearchCursor after, int limit);
+}
@@ -0,0 +1,125 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.dto.transaction.TransactionResponse;
+import com.finance.tracker.dto.transaction.TransactionSearchCursor;
+import com.finance.tracker.dto.transaction.TransactionSearchRequest;
+import com.finance.tracker.dto.transaction.TransactionSortKey;
+import com.finance.tracker.entity.Account;
+import com.finance.tracker.entity.Bank;
+import com.finance.tracker.entity.Category;
+import com.finance.tracker.entity.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria API implementation of TransactionSearchRepository
+ * Spring Data picks it up by the Impl suffix
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponse> search(Long userId, TransactionSearchRequest request, TransactionSearchCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> t = query.from(Transaction.class);
+
+        // Same joins as TransactionRepository.RESPONSE_PROJECTION
+        Join<Transaction, Account> account = t.join("account", JoinType.INNER);
+        Join<Account, Bank> bank = account.join("bank", JoinType.INNER);
+        Join<Transaction, Category> category = t.join("category", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(t.get("user").get("id"), userId));
+
+        if (request.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.get("transactionDate"), request.getFrom()));
+        }
+        if (request.getTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(t.get("transactionDate"), request.getTo()));
+        }
+        if (request.getTypes() != null && !request.getTypes().isEmpty()) {
+            predicates.add(t.get("transactionType").in(request.getTypes()));
+        }
+        if (request.getAccountIds() != null && !request.getAccountIds().isEmpty()) {
+            predicates.add(account.get("id").in(request.getAccountIds()));
+        }
+        if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
+            predicates.add(category.get("id").in(request.getCategoryIds()));
+        }
+        if (request.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.get("amount"), request.getMinAmount()));
+        }
+        if (request.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(t.get("amount"), request.getMaxAmount()));
+        }
+        if (request.getCurrency() != null) {
+            predicates.add(cb.equal(t.get("currency"), request.getCurrency()));
+        }
+
+        boolean byAmount = request.getSort() == TransactionSortKey.AMOUNT;
+        boolean descending = request.getDirection() == Sort.Direction.DESC;
+        Path<Long> id = t.get("id");
+
+        if (after != null) {
+            predicates.add(byAmount
+                    ? keysetAfter(cb, t.get("amount"), after.amountValue(), id, after.getId(), descending)
+                    : keysetAfter(cb, t.get("transactionDate"), after.dateValue(), id, after.getId(), descending));
+        }
+
+        Path<?> key = byAmount ? t.get("amount") : t.get("transactionDate");
+        query.select(cb.construct(TransactionResponse.class,
+                        t.get("id"),
+                        account.get("id"),
+                        cb.concat(cb.concat(bank.<String>get("name"), " - "), account.<String>get("name")),
+                        category.get("id"),
+                        category.get("name"),
+                        t.get("transactionType"),
+                        t.get("transferDirection"),
+                        t.get("transferGroupId"),
+                        t.get("amount"),
+                        t.get("currency"),
+                        t.get("transactionDate"),
+                        t.get("description"),
+                        t.get("fxRateToBase"),
+                        t.get("notes"),
+                        t.get("createdAt"),
+                        t.get("updatedAt")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(descending
+                        ? List.of(cb.desc(key), cb.desc(id))
+                        : List.of(cb.asc(key), cb.asc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * (key, id) strictly after (value, lastId) in the requested direction
+     */
+    private <Y extends Comparable<? super Y>> Predicate keysetAfter(
+            CriteriaBuilder cb, Path<Y> key, Y value, Path<Long> id, Long lastId, boolean descending) {
+        if (descending) {
+            return cb.or(
+                    cb.lessThan(key, value),
+                    cb.and(cb.equal(key, value), cb.lessThan(id, lastId)));
+        }
+        return cb.or(
+                cb.greaterThan(key, value),
+                cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)));
+    }
+}
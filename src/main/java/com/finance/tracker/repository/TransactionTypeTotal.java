@@ -0,0 +1,18 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of one grouped SUM row: total amount per transaction type and currency
+ */
+public interface TransactionTypeTotal {
+
+    TransactionType getTransactionType();
+
+    Currency getCurrency();
+
+    BigDecimal getTotal();
+}
@@ -1,7 +1,11 @@
 package com.finance.tracker.repository;
 
 import com.finance.tracker.entity.User;
+import com.finance.tracker.entity.enums.Currency;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +19,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
+
+    /**
+     * Current data version of a user (primary key lookup only)
+     */
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findDataVersionById(@Param("userId") Long userId);
+
+    /**
+     * Base currency of a user (primary key lookup only)
+     */
+    @Query("SELECT u.baseCurrency FROM User u WHERE u.id = :userId")
+    Optional<Currency> findBaseCurrencyById(@Param("userId") Long userId);
+
+    /**
+     * Current token version of an active user; empty when the user is inactive or missing
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId AND u.isActive = true")
+    Optional<Long> findActiveTokenVersionById(@Param("userId") Long userId);
+
+    /**
+     * Atomically increment a user's token version (revokes every access token issued so far)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+
+    /**
+     * Atomically increment a user's data version
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :userId")
+    int incrementDataVersion(@Param("userId") Long userId);
 }
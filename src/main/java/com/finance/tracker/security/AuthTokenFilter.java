@@ -1,5 +1,8 @@
 package com.finance.tracker.security;
 
+import com.finance.tracker.entity.User;
+import com.finance.tracker.service.TokenVersionService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,15 +28,17 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = jwt != null ? jwtUtils.getVerifiedClaims(jwt) : null;
+            UserDetails userDetails = claims != null ? resolvePrincipal(claims) : null;
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -50,6 +55,24 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Principal for a verified token, or null when the token has been revoked or the user deactivated
+     * Current tokens carry the principal's fields, so no user query is needed; tokens issued
+     * before those claims existed fall back to loading the user until they expire
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        User principal = jwtUtils.getPrincipal(claims);
+        if (principal == null) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (!principal.isEnabled() || principal.getTokenVersion() == null
+                || !tokenVersionService.isCurrent(principal.getId(), principal.getTokenVersion())) {
+            log.debug("Rejected revoked token: userId={}", principal.getId());
+            return null;
+        }
+        return principal;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
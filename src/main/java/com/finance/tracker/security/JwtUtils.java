@@ -1,65 +1,162 @@
 package com.finance.tracker.security;
 
+import com.finance.tracker.entity.User;
+import com.finance.tracker.entity.enums.Currency;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT creation and verification
+ * The signing key and parser are built once. Each token's signature is verified at most once
+ * while it is cached: verified claims are kept in a bounded cache keyed by the token's SHA-256
+ * and dropped no later than the token's own expiry.
+ * Tokens carry the user id, base currency, active and admin flags and token version, so requests can be
+ * authenticated without loading the user.
+ */
 @Component
 @Slf4j
 public class JwtUtils {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_BASE_CURRENCY = "cur";
+    private static final String CLAIM_ACTIVE = "act";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
+    private static final String CLAIM_ADMIN = "adm";
 
-    @Value("${app.jwt.expiration-ms}")
-    private int jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final int jwtExpirationMs;
+    private final Cache<String, Claims> verifiedClaims;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtils(@Value("${app.jwt.secret}") String jwtSecret,
+                    @Value("${app.jwt.expiration-ms}") int jwtExpirationMs,
+                    @Value("${app.jwt.claims-cache-size:10000}") long claimsCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * Access token lifetime in seconds
+     */
+    public long getExpirationSeconds() {
+        return jwtExpirationMs / 1000L;
     }
 
     public String generateJwtToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+        return generateJwtToken((User) authentication.getPrincipal());
+    }
 
+    public String generateJwtToken(User user) {
         return Jwts.builder()
-                .subject(userPrincipal.getUsername())
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_BASE_CURRENCY, user.getBaseCurrency().name())
+                .claim(CLAIM_ACTIVE, user.isEnabled())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .claim(CLAIM_ADMIN, Boolean.TRUE.equals(user.getIsAdmin()))
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * Verify a token and return its claims, or null when it is invalid or expired
+     * A cached entry never outlives the token, so a hit is as good as a fresh verification
+     */
+    public Claims getVerifiedClaims(String token) {
+        String key = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(authToken);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedClaims.put(key, claims);
+            }
+            return claims;
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT token is not valid: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * Lightweight, transient principal built from verified claims; null for tokens issued before
+     * the principal claims existed. Only the fields carried in the token are set.
+     */
+    public User getPrincipal(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        if (userId == null) {
+            return null;
+        }
+        return User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .baseCurrency(Currency.valueOf(claims.get(CLAIM_BASE_CURRENCY, String.class)))
+                .isActive(Boolean.TRUE.equals(claims.get(CLAIM_ACTIVE, Boolean.class)))
+                .tokenVersion(claims.get(CLAIM_TOKEN_VERSION, Long.class))
+                .isAdmin(Boolean.TRUE.equals(claims.get(CLAIM_ADMIN, Boolean.class)))
+                .build();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cache expiry: the remaining lifetime of the token the claims came from
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,132 @@
+package com.finance.tracker.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.RequestPath;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits /api/** requests; runs after AuthTokenFilter so the caller is known
+ * Requests draw from a bucket per user (per client IP when anonymous); password endpoints marked
+ * with the CREDENTIALS bucket draw from a small bucket per client IP. The cost and bucket come from
+ * the handler's @RateLimited (default: 1 token, API bucket). Throttled requests get 429 with Retry-After.
+ * Client IPs rely on server.forward-headers-strategy when running behind a proxy.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final Limit DEFAULT_LIMIT = new Limit(1, RateLimited.Bucket.API);
+
+    private final RateLimiter rateLimiter;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final ObjectMapper objectMapper;
+    private final Map<Method, Limit> limits = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RequestMappingHandlerMapping handlerMapping, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.handlerMapping = handlerMapping;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Limit limit = limitOf(request);
+        Long userId = limit.getBucket() == RateLimited.Bucket.API ? currentUserId() : null;
+        String key = userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+
+        long waitNanos = rateLimiter.tryAcquire(rateLimiter.policy(limit.getBucket()), key, limit.getCost());
+        if (waitNanos > 0) {
+            log.warn("Rate limit exceeded: key={}, path={}", key, request.getRequestURI());
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Internal helper: @RateLimited cost and bucket of the handler the request maps to, cached per method
+     */
+    private Limit limitOf(HttpServletRequest request) {
+        RequestPath previousPath = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request) : null;
+        try {
+            ServletRequestPathUtils.parseAndCache(request);
+            HandlerExecutionChain chain = handlerMapping.getHandler(request);
+            if (chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod) {
+                return limits.computeIfAbsent(handlerMethod.getMethod(), method -> {
+                    RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+                    return rateLimited != null ? new Limit(rateLimited.cost(), rateLimited.bucket()) : DEFAULT_LIMIT;
+                });
+            }
+        } catch (Exception e) {
+            // Unmapped or unsupported requests fail later in the dispatcher; they cost the default
+            log.debug("No handler resolved for rate limiting: {}", e.getMessage());
+        } finally {
+            ServletRequestPathUtils.setParsedRequestPath(previousPath, request);
+        }
+        return DEFAULT_LIMIT;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded, retry after " + retryAfterSeconds + "s")
+                .path(request.getRequestURI())
+                .build());
+    }
+
+    /**
+     * Cost and bucket of one handler method
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Limit {
+        private final int cost;
+        private final RateLimited.Bucket bucket;
+    }
+}
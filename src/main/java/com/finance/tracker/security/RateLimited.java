@@ -0,0 +1,29 @@
+package com.finance.tracker.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rate-limit cost of a controller method, in tokens taken from the caller's bucket
+ * Methods without it cost one token from the API bucket
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimited {
+
+    int cost() default 1;
+
+    Bucket bucket() default Bucket.API;
+
+    /**
+     * API: per user (per client IP when anonymous); CREDENTIALS: small per-IP bucket for password checks
+     */
+    enum Bucket {
+        API,
+        CREDENTIALS
+    }
+}
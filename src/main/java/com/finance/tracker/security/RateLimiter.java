@@ -0,0 +1,101 @@
+package com.finance.tracker.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-bucket rate limiter
+ * Each bucket is a single AtomicLong holding its theoretical arrival time (GCRA): taking tokens is
+ * one compare-and-set, with no locks and no refill timer. A bucket left idle for longer than it
+ * takes to refill is full again, so idle buckets are evicted and the cache stays bounded.
+ */
+@Component
+public class RateLimiter {
+
+    private static final String CACHE_NAME = "ratelimit.buckets";
+
+    @Getter
+    private final boolean enabled;
+    private final Policy api;
+    private final Policy credentials;
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.api.capacity:60}") int apiCapacity,
+                       @Value("${app.rate-limit.api.refill-per-second:10}") double apiRefillPerSecond,
+                       @Value("${app.rate-limit.credentials.capacity:10}") int credentialsCapacity,
+                       @Value("${app.rate-limit.credentials.refill-per-second:0.2}") double credentialsRefillPerSecond,
+                       @Value("${app.rate-limit.max-buckets:100000}") long maxBuckets,
+                       @Value("${app.rate-limit.idle-minutes:10}") long idleMinutes) {
+        this.enabled = enabled;
+        this.api = new Policy("api", apiCapacity, apiRefillPerSecond, meterRegistry);
+        this.credentials = new Policy("credentials", credentialsCapacity, credentialsRefillPerSecond, meterRegistry);
+        // Never evict a bucket before it has refilled, or eviction would hand out free tokens
+        long idleNanos = Math.max(TimeUnit.MINUTES.toNanos(idleMinutes), Math.max(api.burstNanos, credentials.burstNanos));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofNanos(idleNanos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+    }
+
+    public Policy policy(RateLimited.Bucket bucket) {
+        return bucket == RateLimited.Bucket.CREDENTIALS ? credentials : api;
+    }
+
+    /**
+     * Take `cost` tokens from the caller's bucket under the given policy
+     * Returns 0 when allowed, otherwise the nanoseconds until the request would be allowed
+     */
+    public long tryAcquire(Policy policy, String key, int cost) {
+        AtomicLong bucket = buckets.get(policy.name + ':' + key, k -> new AtomicLong(Long.MIN_VALUE));
+        long increment = policy.emissionNanos * Math.max(1, Math.min(cost, policy.capacity));
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + increment;
+            long wait = next - now - policy.burstNanos;
+            if (wait > 0) {
+                policy.rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Bucket size and refill rate; emission is the time one token takes to refill
+     */
+    public static final class Policy {
+        private final String name;
+        private final int capacity;
+        private final long emissionNanos;
+        private final long burstNanos;
+        private final Counter rejected;
+
+        private Policy(String name, int capacity, double refillPerSecond, MeterRegistry meterRegistry) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limit '" + name + "' needs a positive capacity and refill rate");
+            }
+            this.name = name;
+            this.capacity = capacity;
+            this.emissionNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+            this.burstNanos = emissionNanos * capacity;
+            this.rejected = Counter.builder("ratelimit.rejected").tag("policy", name).register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.entity.AccountBalance;
+import com.finance.tracker.repository.AccountBalanceRepository;
+import com.finance.tracker.service.ledger.LedgerEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service for materialized account balances
+ * Transaction writes apply signed deltas in the same database transaction, so reads are a
+ * primary key lookup; a scheduled job recomputes every balance from history as a safety net
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class AccountBalanceService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final DataVersionService dataVersionService;
+    private final TransactionTemplate rebuildTransaction;
+
+    public AccountBalanceService(AccountBalanceRepository accountBalanceRepository,
+                                 DataVersionService dataVersionService,
+                                 PlatformTransactionManager transactionManager) {
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.dataVersionService = dataVersionService;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Apply ledger entries inside the caller's transaction, one upsert per touched account
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Collection<LedgerEntry> entries) {
+        Map<Long, BigDecimal> deltas = new LinkedHashMap<>();
+        Map<Long, Long> owners = new LinkedHashMap<>();
+        for (LedgerEntry entry : entries) {
+            deltas.merge(entry.getAccountId(), entry.getSignedAmount(), BigDecimal::add);
+            owners.putIfAbsent(entry.getAccountId(), entry.getUserId());
+        }
+        // Sorted so concurrent multi-account writes lock rows in the same order; zero deltas still
+        // take the row lock, which orders date-only changes against the checkpoint job
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(delta -> accountBalanceRepository.applyDelta(
+                        delta.getKey(), owners.get(delta.getKey()), delta.getValue()));
+    }
+
+    /**
+     * Balances of all the user's accounts keyed by account id (missing accounts have zero balance)
+     */
+    public Map<Long, BigDecimal> getBalances(Long userId) {
+        return accountBalanceRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(AccountBalance::getAccountId, AccountBalance::getBalance));
+    }
+
+    /**
+     * Balance of one account
+     */
+    public BigDecimal getBalance(Long accountId) {
+        return accountBalanceRepository.findBalanceByAccountId(accountId).orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * Recompute every account's balance from its transactions, one short transaction per account
+     * Disable with app.balances.rebuild-cron: "-"
+     */
+    @Scheduled(cron = "${app.balances.rebuild-cron:0 0 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildAll() {
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        int rebuilt = 0;
+        List<Long> accountIds;
+        do {
+            accountIds = accountBalanceRepository.findAccountIdsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Long accountId : accountIds) {
+                rebuild(accountId);
+                rebuilt++;
+            }
+            if (!accountIds.isEmpty()) {
+                afterId = accountIds.get(accountIds.size() - 1);
+            }
+        } while (accountIds.size() == REBUILD_PAGE_SIZE);
+
+        log.info("Account balances rebuilt: accounts={}, tookMs={}", rebuilt, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Recompute one account's balance; locks the balance row first so concurrent deltas are not lost
+     * A corrected balance bumps the owner's data version, so cached reads and ETags are refreshed
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild(Long accountId) {
+        rebuildTransaction.executeWithoutResult(status -> {
+            accountBalanceRepository.lockForRebuild(accountId);
+            BigDecimal before = getBalance(accountId);
+            accountBalanceRepository.recompute(accountId);
+            BigDecimal after = getBalance(accountId);
+            if (before.compareTo(after) != 0) {
+                log.warn("Account balance drift corrected: accountId={}, stored={}, actual={}", accountId, before, after);
+                accountBalanceRepository.findById(accountId)
+                        .ifPresent(balance -> dataVersionService.bump(balance.getUserId()));
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.dto.account.AccountBalanceResponse;
 import com.finance.tracker.dto.account.AccountCreateRequest;
 import com.finance.tracker.dto.account.AccountResponse;
 import com.finance.tracker.dto.account.AccountUpdateRequest;
@@ -15,7 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +38,9 @@ public class AccountService {
     private final AccountMapper accountMapper;
     private final BankService bankService;
     private final UserService userService;
+    private final DataVersionService dataVersionService;
+    private final AccountBalanceService accountBalanceService;
+    private final BalanceCheckpointService balanceCheckpointService;
 
     /**
      * Create a new account for the authenticated user
@@ -53,9 +62,12 @@ public class AccountService {
 
         // Save
         Account savedAccount = accountRepository.save(account);
+        dataVersionService.bump(userId);
         log.info("Account created: id={}, userId={}, bankId={}", savedAccount.getId(), userId, bank.getId());
 
-        return accountMapper.toResponse(savedAccount);
+        AccountResponse response = accountMapper.toResponse(savedAccount);
+        response.setBalance(BigDecimal.ZERO);
+        return response;
     }
 
     /**
@@ -64,8 +76,9 @@ public class AccountService {
     @Transactional(readOnly = true)
     public List<AccountResponse> getUserAccounts(Long userId) {
         log.debug("Fetching accounts for user: {}", userId);
+        Map<Long, BigDecimal> balances = accountBalanceService.getBalances(userId);
         return accountRepository.findByUser_Id(userId).stream()
-                .map(accountMapper::toResponse)
+                .map(account -> toResponse(account, balances.getOrDefault(account.getId(), BigDecimal.ZERO)))
                 .collect(Collectors.toList());
     }
 
@@ -75,8 +88,9 @@ public class AccountService {
     @Transactional(readOnly = true)
     public List<AccountResponse> getActiveUserAccounts(Long userId) {
         log.debug("Fetching active accounts for user: {}", userId);
+        Map<Long, BigDecimal> balances = accountBalanceService.getBalances(userId);
         return accountRepository.findByUser_IdAndIsActiveTrue(userId).stream()
-                .map(accountMapper::toResponse)
+                .map(account -> toResponse(account, balances.getOrDefault(account.getId(), BigDecimal.ZERO)))
                 .collect(Collectors.toList());
     }
 
@@ -87,7 +101,21 @@ public class AccountService {
     public AccountResponse getAccountById(Long userId, Long accountId) {
         log.debug("Fetching account: id={}, userId={}", accountId, userId);
         Account account = findAccountByIdAndUserId(accountId, userId);
-        return accountMapper.toResponse(account);
+        return toResponse(account, accountBalanceService.getBalance(accountId));
+    }
+
+    /**
+     * Get account balance as of a date (nearest month-end checkpoint plus the transactions after it)
+     */
+    @Transactional(readOnly = true)
+    public AccountBalanceResponse getBalanceAsOf(Long userId, Long accountId, LocalDate asOf) {
+        Account account = findAccountByIdAndUserId(accountId, userId);
+        return AccountBalanceResponse.builder()
+                .accountId(accountId)
+                .asOf(asOf)
+                .balance(balanceCheckpointService.getBalanceAsOf(accountId, asOf))
+                .currency(account.getCurrency())
+                .build();
     }
 
     /**
@@ -106,11 +134,12 @@ public class AccountService {
 
         // Update fields
         accountMapper.updateEntity(account, request);
+        dataVersionService.bump(userId);
 
         // Save (no explicit save needed in transactional context)
         log.info("Account updated: id={}, userId={}", accountId, userId);
 
-        return accountMapper.toResponse(account);
+        return toResponse(account, accountBalanceService.getBalance(accountId));
     }
 
     /**
@@ -121,10 +150,20 @@ public class AccountService {
 
         Account account = findAccountByIdAndUserId(accountId, userId);
         account.setIsActive(false);
+        dataVersionService.bump(userId);
 
         log.info("Account soft deleted: id={}, userId={}", accountId, userId);
     }
 
+    /**
+     * Internal helper to map an account together with its materialized balance
+     */
+    private AccountResponse toResponse(Account account, BigDecimal balance) {
+        AccountResponse response = accountMapper.toResponse(account);
+        response.setBalance(balance);
+        return response;
+    }
+
     /**
      * Internal helper to find account with authorization check
      */
@@ -140,4 +179,15 @@ public class AccountService {
     public Account getAccountEntityById(Long userId, Long accountId) {
         return findAccountByIdAndUserId(accountId, userId);
     }
+
+    /**
+     * Internal method to get the user's accounts by ids in one query (ids not owned are absent)
+     */
+    public Map<Long, Account> getAccountEntitiesByIds(Long userId, Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+        return accountRepository.findByUser_IdAndIdIn(userId, accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+    }
 }
\ No newline at end of file
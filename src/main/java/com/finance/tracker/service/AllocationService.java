@@ -7,6 +7,7 @@ import com.finance.tracker.entity.Allocation;
 import com.finance.tracker.entity.User;
 import com.finance.tracker.entity.enums.AllocationStatus;
 import com.finance.tracker.entity.enums.ContainerType;
+import com.finance.tracker.entity.enums.SyncEntityType;
 import com.finance.tracker.exception.InvalidRequestException;
 import com.finance.tracker.exception.ResourceNotFoundException;
 import com.finance.tracker.mapper.AllocationMapper;
@@ -29,6 +30,8 @@ public class AllocationService {
     private final AllocationMapper allocationMapper;
     private final UserService userService;
     private final AccountService accountService;
+    private final DataVersionService dataVersionService;
+    private final SyncTombstoneService syncTombstoneService;
 
     public AllocationResponse createAllocation(Long userId, AllocationCreateRequest request) {
         log.debug("Creating allocation for user: {}", userId);
@@ -49,6 +52,7 @@ public class AllocationService {
         allocation.setAllocationStatus(AllocationStatus.ACTIVE);
 
         Allocation saved = allocationRepository.save(allocation);
+        dataVersionService.bump(userId);
         return allocationMapper.toResponse(saved);
     }
 
@@ -63,5 +67,7 @@ public class AllocationService {
         Allocation allocation = allocationRepository.findByIdAndUser_Id(allocationId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Allocation not found"));
         allocationRepository.delete(allocation);
+        syncTombstoneService.recordDeletions(userId, SyncEntityType.ALLOCATION, List.of(allocationId));
+        dataVersionService.bump(userId);
     }
 }
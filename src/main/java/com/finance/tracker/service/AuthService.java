@@ -2,73 +2,176 @@ package com.finance.tracker.service;
 
 import com.finance.tracker.dto.user.JwtResponse;
 import com.finance.tracker.dto.user.LoginRequest;
+import com.finance.tracker.dto.user.RefreshTokenRequest;
 import com.finance.tracker.dto.user.UserRegistrationRequest;
 import com.finance.tracker.dto.user.UserResponse;
 import com.finance.tracker.entity.User;
 import com.finance.tracker.exception.DuplicateResourceException;
+import com.finance.tracker.exception.InvalidTokenException;
+import com.finance.tracker.exception.ServiceBusyException;
 import com.finance.tracker.mapper.UserMapper;
 import com.finance.tracker.repository.UserRepository;
 import com.finance.tracker.security.JwtUtils;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for sign-in, registration and token renewal
+ * Only BCrypt itself runs on PasswordHashingService's pool; the database work after it (saving
+ * the user, issuing tokens) continues on a separate bounded pool, so hashing threads never wait
+ * on connections. Login and registration return futures and never hold a request thread.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuthService {
 
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtils jwtUtils;
     private final UserMapper userMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenVersionService tokenVersionService;
+    private final TransactionTemplate writeTransaction;
+    private final ThreadPoolExecutor tokenExecutor;
+    private final long retryAfterSeconds;
 
-    public JwtResponse authenticateUser(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+    public AuthService(UserRepository userRepository,
+                       PasswordHashingService passwordHashingService,
+                       JwtUtils jwtUtils,
+                       UserMapper userMapper,
+                       RefreshTokenService refreshTokenService,
+                       TokenVersionService tokenVersionService,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.auth.token-threads:4}") int tokenThreads,
+                       @Value("${app.auth.token-queue-capacity:100}") int tokenQueueCapacity,
+                       @Value("${app.auth.hashing-retry-after-seconds:2}") long retryAfterSeconds) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtUtils = jwtUtils;
+        this.userMapper = userMapper;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenVersionService = tokenVersionService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.tokenExecutor = new ThreadPoolExecutor(tokenThreads, tokenThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(tokenQueueCapacity),
+                new CustomizableThreadFactory("auth-token-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.tokenExecutor.allowCoreThreadTimeOut(true);
+    }
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtUtils.generateJwtToken(authentication);
+    @PreDestroy
+    void shutdown() {
+        tokenExecutor.shutdownNow();
+    }
 
-        User user = (User) authentication.getPrincipal();
+    /**
+     * Check the credentials and sign the user in
+     * The user is looked up on the request thread and only the password comparison is hashed
+     */
+    public CompletableFuture<JwtResponse> authenticateUser(LoginRequest loginRequest) {
+        Optional<User> user = userRepository.findByEmail(loginRequest.getEmail());
 
-        return JwtResponse.builder()
-                .accessToken(jwt)
-                .id(user.getId())
-                .email(user.getEmail())
-                .build();
+        return passwordHashingService.matches(loginRequest.getPassword(), user.map(User::getPassword).orElse(null))
+                .thenApplyAsync(matches -> {
+                    if (!matches) {
+                        throw new BadCredentialsException("Bad credentials");
+                    }
+                    if (!user.get().isEnabled()) {
+                        throw new DisabledException("User is disabled");
+                    }
+                    return issueTokens(user.get());
+                }, this::continueOnTokenPool);
     }
 
-    @Transactional
-    public JwtResponse registerUser(UserRegistrationRequest registrationRequest) {
+    /**
+     * Create the user and sign them in
+     * The password is hashed once; the new user is signed in directly instead of re-checking it
+     */
+    public CompletableFuture<JwtResponse> registerUser(UserRegistrationRequest registrationRequest) {
         if (userRepository.existsByEmail(registrationRequest.getEmail())) {
             throw new DuplicateResourceException("Error: Email is already in use!");
         }
 
-        User user = userMapper.toEntity(registrationRequest);
-        user.setPassword(passwordEncoder.encode(registrationRequest.getPassword()));
+        return passwordHashingService.encode(registrationRequest.getPassword())
+                .thenApplyAsync(passwordHash -> writeTransaction.execute(status -> {
+                    if (userRepository.existsByEmail(registrationRequest.getEmail())) {
+                        throw new DuplicateResourceException("Error: Email is already in use!");
+                    }
+                    User user = userMapper.toEntity(registrationRequest);
+                    user.setPassword(passwordHash);
+
+                    User savedUser = userRepository.save(user);
+                    log.info("User registered successfully: {}", savedUser.getEmail());
 
-        User savedUser = userRepository.save(user);
-        log.info("User registered successfully: {}", savedUser.getEmail());
+                    return issueTokens(savedUser);
+                }), this::continueOnTokenPool);
+    }
 
-        // Automatically authenticate the user and generate JWT token
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(registrationRequest.getEmail(), registrationRequest.getPassword()));
-        
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtUtils.generateJwtToken(authentication);
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token
+     * The presented token is used up, so each refresh token works exactly once; no password check runs
+     */
+    @Transactional
+    public JwtResponse refresh(RefreshTokenRequest request) {
+        Long userId = refreshTokenService.consume(request.getRefreshToken());
+        User user = userRepository.findById(userId)
+                .filter(User::isEnabled)
+                .orElseThrow(() -> new InvalidTokenException("Refresh token is invalid"));
+        return issueTokens(user);
+    }
 
+    /**
+     * Revoke one refresh token; the access token expires on its own
+     */
+    @Transactional
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+
+    /**
+     * Revoke every refresh token and every access token of the user
+     */
+    @Transactional
+    public void logoutAll(Long userId) {
+        refreshTokenService.revokeAll(userId);
+        tokenVersionService.revokeAll(userId);
+    }
+
+    /**
+     * Internal helper: run the step after hashing, or shed it with 503 when the token pool is full
+     */
+    private void continueOnTokenPool(Runnable step) {
+        try {
+            tokenExecutor.execute(step);
+        } catch (RejectedExecutionException e) {
+            log.warn("Auth token queue full, shedding request");
+            throw new ServiceBusyException("Too many sign-in requests, please try again shortly", retryAfterSeconds);
+        }
+    }
+
+    private JwtResponse issueTokens(User user) {
         return JwtResponse.builder()
-                .accessToken(jwt)
-                .id(savedUser.getId())
-                .email(savedUser.getEmail())
+                .accessToken(jwtUtils.generateJwtToken(user))
+                .refreshToken(refreshTokenService.issue(user.getId()))
+                .expiresIn(jwtUtils.getExpirationSeconds())
+                .id(user.getId())
+                .email(user.getEmail())
                 .build();
     }
 }
@@ -0,0 +1,159 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.entity.AccountBalanceCheckpoint;
+import com.finance.tracker.repository.AccountBalanceCheckpointRepository;
+import com.finance.tracker.repository.AccountBalanceRepository;
+import com.finance.tracker.repository.TransactionRepository;
+import com.finance.tracker.service.ledger.LedgerEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Service for month-end balance checkpoints
+ * A balance as of any date is the nearest earlier checkpoint plus the transactions after it,
+ * so lookups read at most one month of rows. Back-dated writes shift the checkpoints at and
+ * after their month in place; a monthly job adds the checkpoint for the month that just closed.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class BalanceCheckpointService {
+
+    private static final int JOB_PAGE_SIZE = 500;
+
+    private final AccountBalanceCheckpointRepository checkpointRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate checkpointTransaction;
+
+    public BalanceCheckpointService(AccountBalanceCheckpointRepository checkpointRepository,
+                                    AccountBalanceRepository accountBalanceRepository,
+                                    TransactionRepository transactionRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.checkpointRepository = checkpointRepository;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.transactionRepository = transactionRepository;
+        this.checkpointTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Shift checkpoints for ledger entries inside the caller's transaction
+     * Entries of the current month never touch a checkpoint; others cost one UPDATE per (account, month)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Collection<LedgerEntry> entries) {
+        LocalDate currentMonthStart = LocalDate.now().withDayOfMonth(1);
+        Map<Long, TreeMap<LocalDate, BigDecimal>> deltas = new TreeMap<>();
+        for (LedgerEntry entry : entries) {
+            if (!entry.getTransactionDate().isBefore(currentMonthStart)) {
+                continue;
+            }
+            LocalDate monthEnd = YearMonth.from(entry.getTransactionDate()).atEndOfMonth();
+            deltas.computeIfAbsent(entry.getAccountId(), id -> new TreeMap<>())
+                    .merge(monthEnd, entry.getSignedAmount(), BigDecimal::add);
+        }
+        deltas.forEach((accountId, byMonth) -> byMonth.forEach((monthEnd, delta) -> {
+            if (delta.signum() != 0) {
+                checkpointRepository.shift(accountId, monthEnd, delta);
+            }
+        }));
+    }
+
+    /**
+     * Balance of an account including every transaction dated on or before the date
+     */
+    public BigDecimal getBalanceAsOf(Long accountId, LocalDate date) {
+        Optional<AccountBalanceCheckpoint> checkpoint =
+                checkpointRepository.findFirstByAccountIdAndMonthEndLessThanEqualOrderByMonthEndDesc(accountId, date);
+        if (checkpoint.isEmpty()) {
+            return transactionRepository.sumSignedAmountByAccountUpTo(accountId, date);
+        }
+        AccountBalanceCheckpoint from = checkpoint.get();
+        return from.getClosingBalance().add(
+                transactionRepository.sumSignedAmountByAccountBetween(accountId, from.getMonthEnd(), date));
+    }
+
+    /**
+     * Add checkpoints for every completed month that does not have one yet, for all accounts
+     * Runs shortly after each month closes; catches up on any months it missed
+     */
+    @Scheduled(cron = "${app.balances.checkpoint-cron:0 15 0 1 * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createMonthlyCheckpoints() {
+        LocalDate lastClosedMonthEnd = YearMonth.now().minusMonths(1).atEndOfMonth();
+        long afterId = 0;
+        int created = 0;
+        List<Long> accountIds;
+        do {
+            accountIds = accountBalanceRepository.findAccountIdsAfter(afterId, PageRequest.of(0, JOB_PAGE_SIZE));
+            for (Long accountId : accountIds) {
+                created += createCheckpoints(accountId, lastClosedMonthEnd);
+            }
+            if (!accountIds.isEmpty()) {
+                afterId = accountIds.get(accountIds.size() - 1);
+            }
+        } while (accountIds.size() == JOB_PAGE_SIZE);
+
+        log.info("Balance checkpoints created: count={}, upTo={}", created, lastClosedMonthEnd);
+    }
+
+    /**
+     * Fill one account's missing checkpoints up to a month end in a single short transaction
+     * The balance row is locked first, so a concurrent back-dated write either commits before
+     * the sums are read or runs after the new checkpoints exist and shifts them
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int createCheckpoints(Long accountId, LocalDate upToMonthEnd) {
+        Integer created = checkpointTransaction.execute(status -> {
+            accountBalanceRepository.lockForRebuild(accountId);
+            Long userId = accountBalanceRepository.findById(accountId)
+                    .orElseThrow(() -> new IllegalStateException("Balance row missing for account " + accountId))
+                    .getUserId();
+
+            Optional<AccountBalanceCheckpoint> latest = checkpointRepository.findFirstByAccountIdOrderByMonthEndDesc(accountId);
+            YearMonth month;
+            BigDecimal closing;
+            if (latest.isPresent()) {
+                month = YearMonth.from(latest.get().getMonthEnd()).plusMonths(1);
+                closing = latest.get().getClosingBalance();
+            } else {
+                Optional<LocalDate> first = transactionRepository.findFirstTransactionDateByAccount(accountId);
+                if (first.isEmpty()) {
+                    return 0;
+                }
+                month = YearMonth.from(first.get());
+                closing = BigDecimal.ZERO;
+            }
+
+            int count = 0;
+            for (; !month.atEndOfMonth().isAfter(upToMonthEnd); month = month.plusMonths(1)) {
+                closing = closing.add(transactionRepository.sumSignedAmountByAccountBetween(
+                        accountId, month.atDay(1).minusDays(1), month.atEndOfMonth()));
+                checkpointRepository.save(AccountBalanceCheckpoint.builder()
+                        .accountId(accountId)
+                        .monthEnd(month.atEndOfMonth())
+                        .userId(userId)
+                        .closingBalance(closing)
+                        .build());
+                count++;
+            }
+            return count;
+        });
+        return created != null ? created : 0;
+    }
+}
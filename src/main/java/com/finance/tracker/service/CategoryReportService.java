@@ -0,0 +1,165 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.dashboard.CategoryBreakdownResponse;
+import com.finance.tracker.entity.Category;
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.finance.tracker.exception.ResourceNotFoundException;
+import com.finance.tracker.repository.CategoryCurrencyTotal;
+import com.finance.tracker.repository.MonthlyRollupRepository;
+import com.finance.tracker.repository.TransactionRepository;
+import com.finance.tracker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Service for the per-category breakdown report
+ * One grouped query returns a row per (category, currency); each row is converted to the base
+ * currency once, and a heap of size K picks the top categories while the rest fold into "Other".
+ * Memory and work depend on the number of categories, not on the number of transactions.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryReportService {
+
+    public static final int MAX_TOP = 50;
+    private static final int SHARE_SCALE = 4;
+    private static final String UNCATEGORIZED = "Uncategorized";
+    private static final String OTHER = "Other";
+
+    private static final Comparator<Bucket> SMALLEST_FIRST = Comparator
+            .comparing((Bucket b) -> b.amount)
+            .thenComparing(b -> b.categoryId, Comparator.nullsFirst(Comparator.reverseOrder()));
+
+    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final UserRepository userRepository;
+    private final CategoryService categoryService;
+    private final FxRateService fxRateService;
+
+    /**
+     * Top `top` categories of INCOME or EXPENSE by amount over [from, to], with an "Other" bucket
+     * Whole-month ranges read monthly_rollups; other ranges aggregate the transactions in the range
+     */
+    public CategoryBreakdownResponse getBreakdown(Long userId, TransactionType type, LocalDate from, LocalDate to, int top) {
+        if (type != TransactionType.INCOME && type != TransactionType.EXPENSE) {
+            throw new InvalidRequestException("Type must be INCOME or EXPENSE");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' date must not be after 'to' date");
+        }
+        if (top < 1 || top > MAX_TOP) {
+            throw new InvalidRequestException("Top must be between 1 and " + MAX_TOP);
+        }
+
+        Currency baseCurrency = userRepository.findBaseCurrencyById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        boolean wholeMonths = from.getDayOfMonth() == 1 && to.equals(YearMonth.from(to).atEndOfMonth());
+        List<CategoryCurrencyTotal> rows = wholeMonths
+                ? monthlyRollupRepository.sumByCategoryAndCurrency(userId, type, from, to.withDayOfMonth(1))
+                : transactionRepository.sumByCategoryAndCurrency(userId, type, from, to);
+
+        // Fold currencies into one base-currency bucket per category
+        LocalDate rateDate = to.isAfter(LocalDate.now()) ? LocalDate.now() : to;
+        Map<Long, Bucket> buckets = new HashMap<>();
+        Set<Currency> unconverted = EnumSet.noneOf(Currency.class);
+        for (CategoryCurrencyTotal row : rows) {
+            Optional<BigDecimal> converted = fxRateService.convert(row.getTotal(), row.getCurrency(), baseCurrency, rateDate);
+            if (converted.isEmpty()) {
+                unconverted.add(row.getCurrency());
+                continue;
+            }
+            Bucket bucket = buckets.computeIfAbsent(row.getCategoryId(), Bucket::new);
+            bucket.amount = bucket.amount.add(converted.get());
+            bucket.count += row.getTxnCount();
+        }
+
+        // Bounded min-heap keeps the K largest; everything it drops goes to "Other"
+        PriorityQueue<Bucket> heap = new PriorityQueue<>(top + 1, SMALLEST_FIRST);
+        BigDecimal total = BigDecimal.ZERO;
+        Bucket other = new Bucket(null);
+        int otherCategories = 0;
+        for (Bucket bucket : buckets.values()) {
+            total = total.add(bucket.amount);
+            heap.add(bucket);
+            if (heap.size() > top) {
+                Bucket dropped = heap.poll();
+                other.amount = other.amount.add(dropped.amount);
+                other.count += dropped.count;
+                otherCategories++;
+            }
+        }
+
+        List<Bucket> topBuckets = new ArrayList<>(heap);
+        topBuckets.sort(SMALLEST_FIRST.reversed());
+        Map<Long, Category> categories = categoryService.getCategoryEntitiesByIds(userId,
+                topBuckets.stream().map(b -> b.categoryId).filter(Objects::nonNull).toList());
+
+        List<CategoryBreakdownResponse.Item> items = new ArrayList<>(topBuckets.size());
+        for (Bucket bucket : topBuckets) {
+            Category category = bucket.categoryId != null ? categories.get(bucket.categoryId) : null;
+            items.add(CategoryBreakdownResponse.Item.builder()
+                    .categoryId(bucket.categoryId)
+                    .categoryName(category != null ? category.getName() : UNCATEGORIZED)
+                    .amount(bucket.amount)
+                    .share(share(bucket.amount, total))
+                    .transactionCount(bucket.count)
+                    .build());
+        }
+
+        return CategoryBreakdownResponse.builder()
+                .from(from)
+                .to(to)
+                .transactionType(type)
+                .baseCurrency(baseCurrency)
+                .total(total)
+                .categories(items)
+                .other(otherCategories == 0 ? null : CategoryBreakdownResponse.Item.builder()
+                        .categoryName(OTHER)
+                        .amount(other.amount)
+                        .share(share(other.amount, total))
+                        .transactionCount(other.count)
+                        .categoryCount(otherCategories)
+                        .build())
+                .unconvertedCurrencies(unconverted.isEmpty() ? null : unconverted)
+                .build();
+    }
+
+    private BigDecimal share(BigDecimal amount, BigDecimal total) {
+        if (total.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return amount.divide(total, SHARE_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Running base-currency amount and transaction count of one category
+     */
+    private static class Bucket {
+        private final Long categoryId;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        private Bucket(Long categoryId) {
+            this.categoryId = categoryId;
+        }
+    }
+}
@@ -16,7 +16,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +35,7 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
     private final UserService userService;
+    private final DataVersionService dataVersionService;
 
     /**
      * Create a new category for the authenticated user
@@ -54,6 +58,7 @@ public class CategoryService {
 
         // Save
         Category savedCategory = categoryRepository.save(category);
+        dataVersionService.bump(userId);
         log.info("Category created: id={}, userId={}, name={}", savedCategory.getId(), userId, savedCategory.getName());
 
         return categoryMapper.toResponse(savedCategory);
@@ -126,6 +131,7 @@ public class CategoryService {
 
         // Update fields
         categoryMapper.updateEntity(category, request);
+        dataVersionService.bump(userId);
 
         // Save (no explicit save needed in transactional context)
         log.info("Category updated: id={}, userId={}", categoryId, userId);
@@ -141,6 +147,7 @@ public class CategoryService {
 
         Category category = findCategoryByIdAndUserId(categoryId, userId);
         category.setIsActive(false);
+        dataVersionService.bump(userId);
 
         log.info("Category soft deleted: id={}, userId={}", categoryId, userId);
     }
@@ -160,4 +167,15 @@ public class CategoryService {
     public Category getCategoryEntityById(Long userId, Long categoryId) {
         return findCategoryByIdAndUserId(categoryId, userId);
     }
+
+    /**
+     * Internal method to get the user's categories by ids in one query (ids not owned are absent)
+     */
+    public Map<Long, Category> getCategoryEntitiesByIds(Long userId, Collection<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        return categoryRepository.findByUser_IdAndIdIn(userId, categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.dashboard.DashboardResponse;
+import com.finance.tracker.service.event.FxRatesChangedEvent;
+import com.finance.tracker.service.event.UserDataChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * Per-user cache of the dashboard in front of DashboardService
+ * Entries are evicted after every committed change of the user's data and expire after a TTL
+ * as a safety net for changes that do not go through DataVersionService (e.g. balance rebuilds).
+ * Loading runs inside the cache's per-key compute, so an eviction racing a load waits for it
+ * and then removes the value instead of leaving a stale one behind.
+ */
+@Service
+@Slf4j
+public class DashboardCacheService {
+
+    private static final String CACHE_NAME = "dashboard";
+
+    private final DashboardService dashboardService;
+    private final Cache<Long, CachedDashboard> cache;
+
+    public DashboardCacheService(DashboardService dashboardService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.dashboard.cache-max-users:10000}") long maxUsers,
+                                 @Value("${app.dashboard.cache-ttl-minutes:10}") long ttlMinutes) {
+        this.dashboardService = dashboardService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Dashboard of the user, computed at most once per data change (and per month, for the monthly figures)
+     */
+    public DashboardResponse getDashboard(Long userId) {
+        YearMonth month = YearMonth.now();
+        CachedDashboard cached = cache.get(userId, id -> load(id, month));
+        if (!cached.month.equals(month)) {
+            cache.invalidate(userId);
+            cached = cache.get(userId, id -> load(id, month));
+        }
+        return cached.response;
+    }
+
+    /**
+     * Evict the user's dashboard once a change has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+
+    /**
+     * Drop every cached dashboard when exchange rates change, since totals are converted
+     */
+    @EventListener(FxRatesChangedEvent.class)
+    public void onFxRatesChanged() {
+        cache.invalidateAll();
+    }
+
+    private CachedDashboard load(Long userId, YearMonth month) {
+        log.debug("Dashboard cache miss: userId={}", userId);
+        return new CachedDashboard(month, dashboardService.getDashboardData(userId));
+    }
+
+    /**
+     * Cached dashboard together with the month its monthly figures belong to
+     */
+    private static final class CachedDashboard {
+        private final YearMonth month;
+        private final DashboardResponse response;
+
+        private CachedDashboard(YearMonth month, DashboardResponse response) {
+            this.month = month;
+            this.response = response;
+        }
+    }
+}
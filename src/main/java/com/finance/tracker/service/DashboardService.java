@@ -1,76 +1,258 @@
 package com.finance.tracker.service;
 
 import com.finance.tracker.dto.dashboard.DashboardResponse;
+import com.finance.tracker.dto.dashboard.PeriodSummaryResponse;
 import com.finance.tracker.entity.Account;
 import com.finance.tracker.entity.Allocation;
-import com.finance.tracker.entity.Transaction;
+import com.finance.tracker.entity.enums.Currency;
 import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.finance.tracker.exception.ResourceNotFoundException;
 import com.finance.tracker.repository.AccountRepository;
 import com.finance.tracker.repository.AllocationRepository;
+import com.finance.tracker.repository.MonthlyRollupRepository;
 import com.finance.tracker.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.finance.tracker.repository.TransactionTypeTotal;
+import com.finance.tracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * Service for dashboard figures
+ * The dashboard's independent queries (user, accounts with balances, allocations, monthly totals)
+ * run concurrently on a bounded pool, each in its own short read-only transaction, so latency is
+ * the slowest part rather than the sum. Per-part timings are published as dashboard.query.
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardService {
 
+    private static final String QUERY_TIMER = "dashboard.query";
+    private static final int MAX_POOL_SHARE_DIVISOR = 4;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final AllocationRepository allocationRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final UserRepository userRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final FxRateService fxRateService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readTransaction;
+    private final ThreadPoolExecutor queryExecutor;
 
+    public DashboardService(AccountRepository accountRepository,
+                            TransactionRepository transactionRepository,
+                            AllocationRepository allocationRepository,
+                            MonthlyRollupRepository monthlyRollupRepository,
+                            UserRepository userRepository,
+                            AccountBalanceService accountBalanceService,
+                            FxRateService fxRateService,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.dashboard.query-threads:0}") int queryThreads,
+                            @Value("${app.dashboard.query-queue-capacity:200}") int queueCapacity,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.allocationRepository = allocationRepository;
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.userRepository = userRepository;
+        this.accountBalanceService = accountBalanceService;
+        this.fxRateService = fxRateService;
+        this.meterRegistry = meterRegistry;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // At most a quarter of the connection pool, so fan-out never starves request threads and writers;
+        // when saturated the request thread runs the part itself
+        int maxQueryThreads = Math.max(1, connectionPoolSize / MAX_POOL_SHARE_DIVISOR);
+        if (queryThreads > maxQueryThreads) {
+            throw new IllegalStateException("app.dashboard.query-threads=" + queryThreads + " exceeds "
+                    + maxQueryThreads + ", a quarter of the connection pool (" + connectionPoolSize + ")");
+        }
+        int threads = queryThreads > 0 ? queryThreads : maxQueryThreads;
+        this.queryExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("dashboard-query-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.queryExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        queryExecutor.shutdownNow();
+    }
+
+    /**
+     * Wealth and current-month figures; totals are in the user's base currency,
+     * wealthByCurrency keeps each currency's native amount
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardResponse getDashboardData(Long userId) {
-        List<Account> accounts = accountRepository.findByUser_Id(userId);
-        List<Allocation> allocations = allocationRepository.findByUser_Id(userId);
-        
-        LocalDate now = LocalDate.now();
-        LocalDate firstDayOfMonth = now.withDayOfMonth(1);
-        List<Transaction> monthlyTransactions = transactionRepository.findByUser_IdOrderByTransactionDateDesc(userId).stream()
-                .filter(t -> !t.getTransactionDate().isBefore(firstDayOfMonth))
-                .toList();
-
-        BigDecimal totalLiquid = BigDecimal.ZERO;
-        BigDecimal totalAllocated = BigDecimal.ZERO;
-        Map<String, BigDecimal> wealthByCurrency = new HashMap<>();
+        YearMonth month = YearMonth.now();
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
 
-        // Simplified calculation: assuming all accounts/allocations are in EGP for total wealth
-        // In a real app, we would use fx_rate_to_base
-        for (Account acc : accounts) {
-            // This is a placeholder as Account entity doesn't store balance directly in this schema
-            // Balance would be calculated from transactions. For now, we'll return zero or implement a simple sum.
-        }
+        CompletableFuture<Currency> baseCurrency =
+                query("user", () -> getBaseCurrency(userId));
+        CompletableFuture<Map<Currency, BigDecimal>> liquidByCurrency =
+                query("accounts", () -> sumBalancesByCurrency(userId));
+        CompletableFuture<Map<Currency, BigDecimal>> allocatedByCurrency =
+                query("allocations", () -> sumAllocationsByCurrency(userId));
+        CompletableFuture<List<TransactionTypeTotal>> monthlyTotals =
+                query("monthly", () -> sumByTypeAndCurrency(userId, from, to));
 
-        for (Allocation alc : allocations) {
-            totalAllocated = totalAllocated.add(alc.getAmount());
-            wealthByCurrency.merge(alc.getCurrency().name(), alc.getAmount(), BigDecimal::add);
-        }
+        Currency base = join(baseCurrency);
+        Map<Currency, BigDecimal> liquid = join(liquidByCurrency);
+        Map<Currency, BigDecimal> allocated = join(allocatedByCurrency);
+        PeriodSummaryResponse monthly = summarize(base, from, to, join(monthlyTotals));
 
-        BigDecimal income = monthlyTransactions.stream()
-                .filter(t -> t.getTransactionType() == TransactionType.INCOME)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Map<String, BigDecimal> wealthByCurrency = new HashMap<>();
+        liquid.forEach((currency, amount) -> wealthByCurrency.merge(currency.name(), amount, BigDecimal::add));
+        allocated.forEach((currency, amount) -> wealthByCurrency.merge(currency.name(), amount, BigDecimal::add));
 
-        BigDecimal expense = monthlyTransactions.stream()
-                .filter(t -> t.getTransactionType() == TransactionType.EXPENSE)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Converted once per currency at today's rate, not per account or allocation
+        LocalDate today = LocalDate.now();
+        Set<Currency> unconverted = EnumSet.noneOf(Currency.class);
+        BigDecimal totalLiquid = fxRateService.convertAndSum(liquid, base, today, unconverted);
+        BigDecimal totalAllocated = fxRateService.convertAndSum(allocated, base, today, unconverted);
+        if (monthly.getUnconvertedCurrencies() != null) {
+            unconverted.addAll(monthly.getUnconvertedCurrencies());
+        }
 
         return DashboardResponse.builder()
+                .baseCurrency(base)
                 .totalWealth(totalLiquid.add(totalAllocated))
                 .totalLiquidAssets(totalLiquid)
                 .totalAllocatedFunds(totalAllocated)
                 .wealthByCurrency(wealthByCurrency)
-                .monthlyIncome(income)
-                .monthlyExpense(expense)
-                .monthlySavings(income.subtract(expense))
+                .monthlyIncome(monthly.getIncome())
+                .monthlyExpense(monthly.getExpense())
+                .monthlySavings(monthly.getSavings())
+                .unconvertedCurrencies(unconverted.isEmpty() ? null : unconverted)
+                .build();
+    }
+
+    /**
+     * Income, expense and savings for any date range, summed in the database
+     * Ranges of whole months read monthly_rollups; other ranges sum the transactions in the range.
+     * Each (type, currency) total is converted to the base currency at the rate for the end of the range.
+     */
+    public PeriodSummaryResponse getPeriodSummary(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' date must not be after 'to' date");
+        }
+        return summarize(getBaseCurrency(userId), from, to, sumByTypeAndCurrency(userId, from, to));
+    }
+
+    private List<TransactionTypeTotal> sumByTypeAndCurrency(Long userId, LocalDate from, LocalDate to) {
+        boolean wholeMonths = from.getDayOfMonth() == 1 && to.equals(YearMonth.from(to).atEndOfMonth());
+        return wholeMonths
+                ? monthlyRollupRepository.sumByTypeAndCurrency(userId, from, to.withDayOfMonth(1))
+                : transactionRepository.sumByTypeAndCurrency(userId, from, to);
+    }
+
+    private PeriodSummaryResponse summarize(Currency baseCurrency, LocalDate from, LocalDate to,
+                                            List<TransactionTypeTotal> totals) {
+        LocalDate rateDate = to.isAfter(LocalDate.now()) ? LocalDate.now() : to;
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal expense = BigDecimal.ZERO;
+        Set<Currency> unconverted = EnumSet.noneOf(Currency.class);
+        for (TransactionTypeTotal total : totals) {
+            Optional<BigDecimal> rated = fxRateService.convert(total.getTotal(), total.getCurrency(), baseCurrency, rateDate);
+            if (rated.isEmpty()) {
+                unconverted.add(total.getCurrency());
+                continue;
+            }
+            BigDecimal converted = rated.get();
+            if (total.getTransactionType() == TransactionType.INCOME) {
+                income = income.add(converted);
+            } else {
+                expense = expense.add(converted);
+            }
+        }
+
+        return PeriodSummaryResponse.builder()
+                .baseCurrency(baseCurrency)
+                .from(from)
+                .to(to)
+                .income(income)
+                .expense(expense)
+                .savings(income.subtract(expense))
+                .unconvertedCurrencies(unconverted.isEmpty() ? null : unconverted)
                 .build();
     }
+
+    private Map<Currency, BigDecimal> sumBalancesByCurrency(Long userId) {
+        Map<Long, BigDecimal> balances = accountBalanceService.getBalances(userId);
+        Map<Currency, BigDecimal> byCurrency = new EnumMap<>(Currency.class);
+        for (Account acc : accountRepository.findByUser_Id(userId)) {
+            byCurrency.merge(acc.getCurrency(), balances.getOrDefault(acc.getId(), BigDecimal.ZERO), BigDecimal::add);
+        }
+        return byCurrency;
+    }
+
+    private Map<Currency, BigDecimal> sumAllocationsByCurrency(Long userId) {
+        Map<Currency, BigDecimal> byCurrency = new EnumMap<>(Currency.class);
+        for (Allocation alc : allocationRepository.findByUser_Id(userId)) {
+            byCurrency.merge(alc.getCurrency(), alc.getAmount(), BigDecimal::add);
+        }
+        return byCurrency;
+    }
+
+    private Currency getBaseCurrency(Long userId) {
+        return userRepository.findBaseCurrencyById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+    }
+
+    /**
+     * Internal helper: run one dashboard part on the query pool in its own read-only transaction, timed
+     */
+    private <T> CompletableFuture<T> query(String part, Supplier<T> supplier) {
+        Timer timer = Timer.builder(QUERY_TIMER)
+                .tag("part", part)
+                .register(meterRegistry);
+        return CompletableFuture.supplyAsync(
+                () -> timer.record(() -> readTransaction.execute(status -> supplier.get())),
+                queryExecutor);
+    }
+
+    /**
+     * Internal helper: wait for a part and rethrow its own exception, so the usual error mapping applies
+     */
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
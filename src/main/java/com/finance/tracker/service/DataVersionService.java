@@ -0,0 +1,60 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.exception.ResourceNotFoundException;
+import com.finance.tracker.repository.UserRepository;
+import com.finance.tracker.service.event.UserDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the per-user data version
+ * Every mutation of a user's accounts, categories, transactions or allocations bumps it,
+ * so read endpoints can answer If-None-Match with 304 from a single primary key lookup
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class DataVersionService {
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Increment the user's data version inside the caller's transaction
+     * The row lock is held until commit, so concurrent writes of one user are ordered;
+     * a UserDataChangedEvent is published for after-commit listeners (cache invalidation)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Long userId) {
+        userRepository.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+    }
+
+    /**
+     * Get the user's current data version
+     */
+    public long getDataVersion(Long userId) {
+        return userRepository.findDataVersionById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+    }
+
+    /**
+     * Weak ETag for everything a user can read
+     */
+    public String weakETag(Long userId) {
+        return "W/\"" + getDataVersion(userId) + "\"";
+    }
+
+    /**
+     * Weak ETag for a representation that also depends on something besides stored data
+     * (e.g. the current month for the dashboard)
+     */
+    public String weakETag(Long userId, String qualifier) {
+        return "W/\"" + getDataVersion(userId) + "-" + qualifier + "\"";
+    }
+}
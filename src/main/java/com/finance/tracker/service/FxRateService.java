@@ -0,0 +1,193 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.fx.FxRateResponse;
+import com.finance.tracker.dto.fx.FxRatesRequest;
+import com.finance.tracker.entity.FxRate;
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.finance.tracker.mapper.FxRateMapper;
+import com.finance.tracker.repository.FxRateRepository;
+import com.finance.tracker.service.event.FxRatesChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service for exchange rates and base-currency conversion
+ * The fx_rates table is loaded into an immutable snapshot of per-pair date-ordered maps that is
+ * swapped atomically on refresh, so lookups never touch the database or take a lock.
+ * Callers convert aggregates (one amount per currency bucket), never individual rows; an amount in a
+ * currency with no stored rate is reported as unconverted rather than failing the request.
+ */
+@Service
+@Slf4j
+public class FxRateService {
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int VERSION_BYTES = 8;
+
+    private final FxRateRepository fxRateRepository;
+    private final FxRateMapper fxRateMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile Map<String, NavigableMap<LocalDate, BigDecimal>> snapshot = Map.of();
+    private volatile String snapshotVersion = version(sha256());
+
+    public FxRateService(FxRateRepository fxRateRepository,
+                         FxRateMapper fxRateMapper,
+                         ApplicationEventPublisher eventPublisher) {
+        this.fxRateRepository = fxRateRepository;
+        this.fxRateMapper = fxRateMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Reload the snapshot from fx_rates; runs at startup and on app.fx.refresh-cron
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.fx.refresh-cron:0 */15 * * * *}")
+    public synchronized void refresh() {
+        Map<String, NavigableMap<LocalDate, BigDecimal>> loaded = new HashMap<>();
+        MessageDigest digest = sha256();
+        int count = 0;
+        for (FxRate rate : fxRateRepository.findAllOrdered()) {
+            String pair = pair(rate.getBaseCurrency(), rate.getQuoteCurrency());
+            loaded.computeIfAbsent(pair, p -> new TreeMap<>()).put(rate.getRateDate(), rate.getRate());
+            digest.update((pair + '|' + rate.getRateDate() + '|' + rate.getRate().stripTrailingZeros().toPlainString() + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            count++;
+        }
+        loaded.replaceAll((pair, series) -> Collections.unmodifiableNavigableMap(series));
+        String version = version(digest);
+
+        if (!version.equals(snapshotVersion)) {
+            snapshot = Map.copyOf(loaded);
+            snapshotVersion = version;
+            log.info("FX rates loaded: pairs={}, rates={}, version={}", loaded.size(), count, version);
+            eventPublisher.publishEvent(new FxRatesChangedEvent());
+        }
+    }
+
+    /**
+     * Digest of the loaded rates (part of ETags of converted responses)
+     * Derived from the rates themselves, so every instance reports the same version for the same
+     * rates, before and after a restart
+     */
+    public String getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    /**
+     * Units of `to` per unit of `from` on a date
+     * Uses the latest rate on or before the date, or the earliest stored rate for earlier dates;
+     * the inverse pair is used when only the other direction is stored
+     */
+    public Optional<BigDecimal> findRate(Currency from, Currency to, LocalDate date) {
+        if (from == to) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        Map<String, NavigableMap<LocalDate, BigDecimal>> rates = snapshot;
+        BigDecimal direct = lookup(rates.get(pair(from, to)), date);
+        if (direct != null) {
+            return Optional.of(direct);
+        }
+        BigDecimal inverse = lookup(rates.get(pair(to, from)), date);
+        return Optional.ofNullable(inverse)
+                .map(rate -> BigDecimal.ONE.divide(rate, MathContext.DECIMAL64));
+    }
+
+    /**
+     * Convert one amount, rounded to cents; empty when no rate is stored for the pair
+     */
+    public Optional<BigDecimal> convert(BigDecimal amount, Currency from, Currency to, LocalDate date) {
+        if (from == to) {
+            return Optional.of(amount);
+        }
+        return findRate(from, to, date)
+                .map(rate -> amount.multiply(rate).setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * Convert per-currency totals into one total in the target currency (one multiplication per currency)
+     * Currencies without a stored rate are left out of the total and added to `unconverted`
+     */
+    public BigDecimal convertAndSum(Map<Currency, BigDecimal> amounts, Currency to, LocalDate date,
+                                    Set<Currency> unconverted) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<Currency, BigDecimal> amount : amounts.entrySet()) {
+            Optional<BigDecimal> converted = convert(amount.getValue(), amount.getKey(), to, date);
+            if (converted.isPresent()) {
+                total = total.add(converted.get());
+            } else {
+                unconverted.add(amount.getKey());
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Store rates (insert or replace by pair and date) and reload the snapshot
+     * Other instances pick the change up on their next scheduled refresh
+     */
+    public void saveRates(FxRatesRequest request) {
+        List<FxRate> rates = request.getRates().stream().map(fxRateMapper::toEntity).toList();
+        for (FxRate rate : rates) {
+            if (rate.getBaseCurrency() == rate.getQuoteCurrency()) {
+                throw new InvalidRequestException("Base and quote currency must differ: " + rate.getBaseCurrency());
+            }
+        }
+        fxRateRepository.saveAll(rates);
+        log.info("FX rates saved: count={}", rates.size());
+        refresh();
+    }
+
+    /**
+     * Every stored rate, oldest first per pair
+     */
+    public List<FxRateResponse> getAllRates() {
+        return fxRateRepository.findAllOrdered().stream().map(fxRateMapper::toResponse).toList();
+    }
+
+    private BigDecimal lookup(NavigableMap<LocalDate, BigDecimal> series, LocalDate date) {
+        if (series == null) {
+            return null;
+        }
+        Map.Entry<LocalDate, BigDecimal> entry = series.floorEntry(date);
+        return entry != null ? entry.getValue() : series.firstEntry().getValue();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String version(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest(), 0, VERSION_BYTES);
+    }
+
+    private static String pair(Currency base, Currency quote) {
+        return base.name() + "/" + quote.name();
+    }
+}
@@ -0,0 +1,141 @@
+package com.finance.tracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.finance.tracker.exception.DuplicateResourceException;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service for Idempotency-Key handling on create endpoints
+ * The first request with a key runs; retries with the same key and payload get the original
+ * response, and concurrent duplicates wait for the first execution instead of running again.
+ * Keys live in memory (per node) until they expire; failed executions are forgotten so they can be retried.
+ * A full store evicts old, rarely used keys first rather than arbitrary ones.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long IN_FLIGHT_WAIT_SECONDS = 30;
+    private static final String CACHE_NAME = "idempotency.keys";
+
+    private final Map<String, Entry> entries;
+    private final ObjectMapper canonicalMapper;
+
+    public IdempotencyService(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                              @Value("${app.idempotency.max-entries:100000}") int maxEntries) {
+        // Sorted properties and map keys, so equal requests always serialize to the same bytes
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.setConfig(mapper.getSerializationConfig()
+                .with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+        this.canonicalMapper = mapper;
+        Cache<String, Entry> cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.entries = cache.asMap();
+    }
+
+    /**
+     * Run the action once per (user, scope, key); without a key the action always runs
+     * The request is fingerprinted before the action runs, so defaults applied by services do not matter
+     */
+    public <T> T execute(Long userId, String scope, String key, Object request, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String storeKey = userId + ":" + scope + ":" + key;
+        byte[] fingerprint = fingerprint(request);
+        Entry fresh = new Entry(fingerprint);
+
+        // Expired keys read as absent, so an expired key is simply replaced
+        Entry existing = entries.putIfAbsent(storeKey, fresh);
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                throw new DuplicateResourceException(HEADER + " was already used with a different request");
+            }
+            log.debug("Idempotent replay: userId={}, scope={}", userId, scope);
+            return await(existing);
+        }
+
+        try {
+            T result = action.get();
+            fresh.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(storeKey, fresh);
+            fresh.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * SHA-256 of the request's canonical JSON
+     */
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot fingerprint request for " + HEADER, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Entry entry) {
+        try {
+            return (T) entry.result.get(IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // Same outcome as the execution we collapsed onto
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DuplicateResourceException("A request with this " + HEADER + " is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotent request", e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.entity.MonthlyRollup;
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.repository.MonthlyRollupRepository;
+import com.finance.tracker.repository.MonthlyRollupTotal;
+import com.finance.tracker.repository.TransactionRepository;
+import com.finance.tracker.service.event.MonthlyRollupsChangedEvent;
+import com.finance.tracker.service.ledger.LedgerEntry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service for the monthly_rollups table
+ * Transaction writes add amount and count deltas per (user, month, category, type, currency) in the
+ * same database transaction, so reports read a few rows per month instead of the transactions.
+ * A scheduled job compares the rollups against the base table and corrects any drift.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class MonthlyRollupService {
+
+    private static final int RECONCILE_PAGE_SIZE = 500;
+
+    /**
+     * Lock order for upserts, so concurrent multi-row writes never deadlock
+     */
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator
+            .comparing(RollupKey::getUserId)
+            .thenComparing(RollupKey::getMonthStart)
+            .thenComparing(RollupKey::getCategoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RollupKey::getTransactionType)
+            .thenComparing(RollupKey::getCurrency);
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final DataVersionService dataVersionService;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate correctionTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MonthlyRollupService(MonthlyRollupRepository monthlyRollupRepository,
+                                TransactionRepository transactionRepository,
+                                DataVersionService dataVersionService,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.dataVersionService = dataVersionService;
+        this.eventPublisher = eventPublisher;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.correctionTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Apply ledger entries inside the caller's transaction, one upsert per touched rollup row
+     * Entries that cancel out (e.g. an update that only changes the description) cost nothing
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Collection<LedgerEntry> entries) {
+        Map<RollupKey, Delta> deltas = new TreeMap<>(KEY_ORDER);
+        for (LedgerEntry entry : entries) {
+            RollupKey key = new RollupKey(entry.getUserId(), entry.getTransactionDate().withDayOfMonth(1),
+                    entry.getCategoryId(), entry.getTransactionType(), entry.getCurrency());
+            deltas.computeIfAbsent(key, k -> new Delta()).add(entry.getAmount(), entry.getCount());
+        }
+        deltas.forEach(this::applyDelta);
+        publishChanges(deltas.keySet());
+    }
+
+    /**
+     * Reconcile every user's rollups, one user at a time
+     * Disable with app.rollups.reconcile-cron: "-"
+     */
+    @Scheduled(cron = "${app.rollups.reconcile-cron:0 30 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcileAll() {
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        int users = 0;
+        int corrected = 0;
+        List<Long> userIds;
+        do {
+            userIds = monthlyRollupRepository.findUserIdsAfter(afterId, PageRequest.of(0, RECONCILE_PAGE_SIZE));
+            for (Long userId : userIds) {
+                corrected += reconcile(userId);
+                users++;
+            }
+            if (!userIds.isEmpty()) {
+                afterId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == RECONCILE_PAGE_SIZE);
+
+        log.info("Monthly rollups reconciled: users={}, correctedRows={}, tookMs={}",
+                users, corrected, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Reconcile one user's rollups against the transactions table; returns the number of corrected rows
+     * Drift is measured in a single REPEATABLE READ snapshot, where every committed write has both its
+     * transaction rows and its rollup deltas. The fix is applied as another delta, which commutes
+     * with concurrent writers, so no locks are held while comparing. Any correction bumps the user's
+     * data version, so cached reads and ETags are refreshed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcile(Long userId) {
+        Map<RollupKey, Delta> drift = snapshotTransaction.execute(status -> measureDrift(userId));
+        if (drift == null) {
+            return 0;
+        }
+        correctionTransaction.executeWithoutResult(status -> {
+            drift.forEach((key, delta) -> {
+                log.warn("Monthly rollup drift corrected: key={}, totalDelta={}, countDelta={}",
+                        key, delta.getTotal(), delta.getCount());
+                applyDelta(key, delta);
+            });
+            monthlyRollupRepository.deleteEmpty(userId);
+            if (!drift.isEmpty()) {
+                dataVersionService.bump(userId);
+            }
+            publishChanges(drift.keySet());
+        });
+        return drift.size();
+    }
+
+    /**
+     * Internal helper: expected minus stored, for every key that differs
+     */
+    private Map<RollupKey, Delta> measureDrift(Long userId) {
+        Map<RollupKey, Delta> drift = new TreeMap<>(KEY_ORDER);
+        for (MonthlyRollupTotal actual : transactionRepository.sumMonthlyByUser(userId)) {
+            RollupKey key = new RollupKey(userId, LocalDate.of(actual.getYear(), actual.getMonth(), 1),
+                    actual.getCategoryId(), actual.getTransactionType(), actual.getCurrency());
+            drift.computeIfAbsent(key, k -> new Delta()).add(actual.getTotal(), actual.getTxnCount());
+        }
+        for (MonthlyRollup stored : monthlyRollupRepository.findByUserId(userId)) {
+            RollupKey key = new RollupKey(userId, stored.getMonthStart(), stored.getCategoryId(),
+                    stored.getTransactionType(), stored.getCurrency());
+            drift.computeIfAbsent(key, k -> new Delta()).add(stored.getTotal().negate(), -stored.getTxnCount());
+        }
+        drift.values().removeIf(Delta::isZero);
+        return drift;
+    }
+
+    /**
+     * Internal helper: tell after-commit listeners which (user, month) rows were touched
+     */
+    private void publishChanges(Collection<RollupKey> keys) {
+        Map<Long, Set<LocalDate>> months = new HashMap<>();
+        for (RollupKey key : keys) {
+            months.computeIfAbsent(key.getUserId(), id -> new HashSet<>()).add(key.getMonthStart());
+        }
+        months.forEach((userId, monthStarts) ->
+                eventPublisher.publishEvent(new MonthlyRollupsChangedEvent(userId, monthStarts)));
+    }
+
+    private void applyDelta(RollupKey key, Delta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        monthlyRollupRepository.applyDelta(key.getUserId(), key.getMonthStart(), key.getCategoryId(),
+                key.getTransactionType().name(), key.getCurrency().name(), delta.getTotal(), delta.getCount());
+    }
+
+    /**
+     * Identity of one rollup row
+     */
+    @Value
+    private static class RollupKey {
+        Long userId;
+        LocalDate monthStart;
+        Long categoryId;
+        TransactionType transactionType;
+        Currency currency;
+    }
+
+    /**
+     * Running amount and count change for one rollup row
+     */
+    private static class Delta {
+        private BigDecimal total = BigDecimal.ZERO;
+        private long count;
+
+        void add(BigDecimal amount, long n) {
+            total = total.add(amount);
+            count += n;
+        }
+
+        BigDecimal getTotal() {
+            return total;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        boolean isZero() {
+            return total.signum() == 0 && count == 0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Service that runs BCrypt work (hashing and credential checks) off the request threads
+ * A small fixed pool sized to the CPU does the hashing behind a bounded queue; when the queue is
+ * full the request is shed with 503 instead of piling up. Published metrics: auth.password.hash
+ * (run time per operation), auth.password.wait (time queued), auth.password.queue (depth) and
+ * auth.password.rejected.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private static final String HASH_TIMER = "auth.password.hash";
+    private static final String WAIT_TIMER = "auth.password.wait";
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final Timer waitTimer;
+    private final Counter rejected;
+    private final long retryAfterSeconds;
+    private volatile String unknownUserHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.auth.hashing-threads:0}") int hashingThreads,
+                                  @Value("${app.auth.hashing-queue-capacity:100}") int queueCapacity,
+                                  @Value("${app.auth.hashing-retry-after-seconds:2}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        this.hashingExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashingExecutor.allowCoreThreadTimeOut(true);
+        this.waitTimer = Timer.builder(WAIT_TIMER).register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue", hashingExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    /**
+     * Hash a new password
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check a password against a stored hash; pass null for an unknown user and a dummy hash is
+     * checked instead, so unknown emails take as long as wrong passwords
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit("verify", () -> {
+            boolean matches = passwordEncoder.matches(rawPassword,
+                    encodedPassword != null ? encodedPassword : unknownUserHash());
+            return matches && encodedPassword != null;
+        });
+    }
+
+    /**
+     * Internal helper: hash compared for unknown users, created on first use on a hashing thread
+     */
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode("unknown-user-password");
+            unknownUserHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Internal helper: queue a hashing task, or throw ServiceBusyException when the queue is full
+     */
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder(HASH_TIMER).tag("operation", operation).register(meterRegistry);
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            }, hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue full, shedding {} request", operation);
+            throw new ServiceBusyException("Too many sign-in requests, please try again shortly", retryAfterSeconds);
+        }
+    }
+}
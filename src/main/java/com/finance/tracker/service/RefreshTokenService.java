@@ -0,0 +1,163 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.entity.RefreshToken;
+import com.finance.tracker.exception.InvalidTokenException;
+import com.finance.tracker.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Service for refresh tokens
+ * Tokens are random, single-use values; only their SHA-256 is stored. Refreshing deletes the
+ * presented token and issues a new one, so a replayed token is rejected. Lookups go through a
+ * bounded in-memory cache; the delete decides which of two concurrent refreshes wins.
+ */
+@Service
+@Transactional
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String CACHE_NAME = "auth.refresh-tokens";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate purgeTransaction;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, Issued> issued;
+    private final long refreshExpirationMs;
+    private final int purgeBatchSize;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.jwt.refresh-expiration-ms}") long refreshExpirationMs,
+                               @Value("${app.jwt.refresh-cache-size:10000}") long cacheSize,
+                               @Value("${app.jwt.refresh-purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+        this.refreshExpirationMs = refreshExpirationMs;
+        this.purgeBatchSize = purgeBatchSize;
+        this.issued = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMillis(refreshExpirationMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, issued, CACHE_NAME);
+    }
+
+    /**
+     * Issue a new refresh token for the user; the returned value is never stored
+     */
+    public String issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken saved = refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .token(hash(token))
+                .expiryDate(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)))
+                .build());
+        issued.put(saved.getToken(), new Issued(saved.getId(), userId, saved.getExpiryDate()));
+        return token;
+    }
+
+    /**
+     * Use up a refresh token and return its user id
+     * Throws when the token is unknown, expired, or was already used or revoked
+     */
+    public Long consume(String token) {
+        String key = hash(token);
+        Issued entry = issued.getIfPresent(key);
+        if (entry == null) {
+            entry = refreshTokenRepository.findByToken(key)
+                    .map(row -> new Issued(row.getId(), row.getUserId(), row.getExpiryDate()))
+                    .orElseThrow(() -> new InvalidTokenException("Refresh token is invalid"));
+        }
+        issued.invalidate(key);
+        if (entry.getExpiryDate().isBefore(LocalDateTime.now())) {
+            throw new InvalidTokenException("Refresh token has expired");
+        }
+        if (refreshTokenRepository.deleteOne(entry.getId()) == 0) {
+            log.warn("Refresh token reused: userId={}", entry.getUserId());
+            throw new InvalidTokenException("Refresh token is invalid");
+        }
+        return entry.getUserId();
+    }
+
+    /**
+     * Revoke one refresh token (logout); unknown tokens are ignored
+     */
+    public void revoke(String token) {
+        String key = hash(token);
+        issued.invalidate(key);
+        refreshTokenRepository.deleteByTokenHash(key);
+    }
+
+    /**
+     * Revoke every refresh token of the user
+     */
+    public void revokeAll(Long userId) {
+        issued.asMap().values().removeIf(entry -> entry.getUserId().equals(userId));
+        int revoked = refreshTokenRepository.deleteByUserId(userId);
+        log.info("Refresh tokens revoked: userId={}, count={}", userId, revoked);
+    }
+
+    /**
+     * Purge expired refresh tokens in batches, each in its own short transaction
+     */
+    @Scheduled(cron = "${app.jwt.refresh-purge-cron:0 45 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        int deleted;
+        do {
+            Integer batch = purgeTransaction.execute(status ->
+                    refreshTokenRepository.deleteExpiredBatch(now, purgeBatchSize));
+            deleted = batch != null ? batch : 0;
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        log.info("Expired refresh tokens purged: count={}", purged);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cached lookup result: the row a token hash maps to
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Issued {
+        private final Long id;
+        private final Long userId;
+        private final LocalDateTime expiryDate;
+    }
+}
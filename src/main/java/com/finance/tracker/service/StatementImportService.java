@@ -0,0 +1,404 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.StatementImportProperties;
+import com.finance.tracker.config.StatementImportProperties.BankProfile;
+import com.finance.tracker.dto.imports.ImportJobResponse;
+import com.finance.tracker.dto.imports.ImportJobStatus;
+import com.finance.tracker.dto.imports.StatementFormat;
+import com.finance.tracker.dto.transaction.TransactionBulkCreateResponse;
+import com.finance.tracker.dto.transaction.TransactionCreateRequest;
+import com.finance.tracker.entity.Account;
+import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.finance.tracker.exception.ResourceNotFoundException;
+import com.finance.tracker.service.imports.StatementParser;
+import com.finance.tracker.service.imports.StatementRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for importing bank statements (CSV, OFX, QIF) into an account
+ * The upload is spooled to a temp file; a parser thread streams it into a bounded queue while
+ * a writer thread drains the queue into batched inserts, so parsing and writing overlap and
+ * memory stays bounded by the queue size, not the file size
+ */
+@Service
+@Slf4j
+public class StatementImportService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+    private static final StatementRow END_OF_FILE = StatementRow.error(-1, "end of file");
+
+    private final TransactionService transactionService;
+    private final AccountService accountService;
+    private final StatementImportProperties properties;
+    private final Map<StatementFormat, StatementParser> parsers = new EnumMap<>(StatementFormat.class);
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor writerExecutor;
+    private final ExecutorService parserExecutor;
+
+    public StatementImportService(TransactionService transactionService,
+                                  AccountService accountService,
+                                  StatementImportProperties properties,
+                                  List<StatementParser> parsers) {
+        this.transactionService = transactionService;
+        this.accountService = accountService;
+        this.properties = properties;
+        parsers.forEach(parser -> this.parsers.put(parser.format(), parser));
+
+        // Each running job holds one writer and one parser thread; extra jobs wait in a short queue
+        int jobs = properties.getMaxConcurrentJobs();
+        this.writerExecutor = new ThreadPoolExecutor(jobs, jobs, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getMaxQueuedJobs()),
+                new CustomizableThreadFactory("statement-import-"));
+        this.parserExecutor = Executors.newFixedThreadPool(jobs, new CustomizableThreadFactory("statement-parse-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writerExecutor.shutdownNow();
+        parserExecutor.shutdownNow();
+    }
+
+    /**
+     * Start importing a statement file into one of the user's accounts
+     * The CSV layout comes from the profile of bankCode, or of the account's bank when omitted
+     */
+    public ImportJobResponse startImport(Long userId, Long accountId, StatementFormat format,
+                                         String bankCode, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Statement file is required");
+        }
+        Account account = accountService.getAccountEntityById(userId, accountId);
+        String profileCode = bankCode != null && !bankCode.isBlank()
+                ? bankCode.trim().toUpperCase()
+                : account.getBank().getCode();
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("statement-import-", "." + format.name().toLowerCase());
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded statement", e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID(), userId, accountId, format, profileCode, file.getSize());
+        synchronized (jobs) {
+            if (jobs.values().stream().anyMatch(j -> j.userId.equals(userId) && !j.isFinished())) {
+                deleteQuietly(spool);
+                throw new InvalidRequestException("An import is already in progress for this user");
+            }
+            jobs.put(job.id, job);
+        }
+        try {
+            writerExecutor.execute(() -> run(job, spool));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            deleteQuietly(spool);
+            throw new InvalidRequestException("Too many imports in progress, please try again later");
+        }
+
+        log.info("Statement import queued: jobId={}, userId={}, accountId={}, format={}, profile={}, bytes={}",
+                job.id, userId, accountId, format, profileCode, file.getSize());
+        return job.toResponse();
+    }
+
+    /**
+     * Get the progress of one of the user's import jobs
+     */
+    public ImportJobResponse getImportJob(Long userId, UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new ResourceNotFoundException("Import job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Forget finished jobs after the retention window
+     */
+    @Scheduled(fixedDelayString = "PT5M")
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(properties.getFinishedJobRetentionMinutes());
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void run(ImportJob job, Path spool) {
+        job.status = ImportJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+
+        BlockingQueue<StatementRow> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Future<?> parsing = parserExecutor.submit(() -> {
+            parse(job, spool, queue);
+            return null;
+        });
+        try {
+            write(job, queue);
+            parsing.get();
+            job.finish(ImportJobStatus.COMPLETED, null);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            job.finish(ImportJobStatus.FAILED, cause instanceof IOException
+                    ? "Could not read statement: " + cause.getMessage()
+                    : "Could not read statement");
+            log.warn("Statement import failed while parsing: jobId={}", job.id, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(ImportJobStatus.FAILED, "Import was interrupted");
+        } catch (RuntimeException e) {
+            job.finish(ImportJobStatus.FAILED, "Failed to save transactions");
+            log.error("Statement import failed while writing: jobId={}", job.id, e);
+        } finally {
+            parsing.cancel(true);
+            deleteQuietly(spool);
+        }
+
+        log.info("Statement import finished: jobId={}, status={}, parsed={}, imported={}, failed={}",
+                job.id, job.status, job.rowsParsed.get(), job.rowsImported.get(), job.rowsFailed.get());
+    }
+
+    /**
+     * Parser side: stream the file into the queue, blocking while the writer catches up
+     */
+    private void parse(ImportJob job, Path spool, BlockingQueue<StatementRow> queue) throws IOException {
+        StatementParser parser = parsers.get(job.format);
+        BankProfile profile = properties.profileFor(job.bankCode);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new CountingInputStream(Files.newInputStream(spool), job.bytesRead),
+                StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            skipByteOrderMark(reader);
+            parser.parse(reader, profile, row -> {
+                job.rowsParsed.incrementAndGet();
+                queue.put(row);
+            });
+            queue.put(END_OF_FILE);
+        } catch (InterruptedException e) {
+            // The writer gave up and cancelled us; nobody is left to read the queue
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            try {
+                queue.put(END_OF_FILE);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writer side: drain the queue in batches until the parser signals end of file
+     */
+    private void write(ImportJob job, BlockingQueue<StatementRow> queue) throws InterruptedException {
+        int batchSize = properties.getBatchSize();
+        List<StatementRow> batch = new ArrayList<>(batchSize);
+        while (true) {
+            StatementRow row = queue.take();
+            boolean endOfFile = row == END_OF_FILE;
+            if (!endOfFile) {
+                batch.add(row);
+                queue.drainTo(batch, batchSize - batch.size());
+                if (batch.get(batch.size() - 1) == END_OF_FILE) {
+                    batch.remove(batch.size() - 1);
+                    endOfFile = true;
+                }
+            }
+            if (endOfFile || batch.size() >= batchSize) {
+                writeBatch(job, batch);
+                batch.clear();
+            }
+            if (endOfFile) {
+                return;
+            }
+        }
+    }
+
+    private void writeBatch(ImportJob job, List<StatementRow> batch) {
+        List<TransactionCreateRequest> requests = new ArrayList<>(batch.size());
+        List<Long> lines = new ArrayList<>(batch.size());
+        for (StatementRow row : batch) {
+            if (row.isError()) {
+                job.reject(row.getLine(), row.getError(), properties.getMaxReportedErrors());
+                continue;
+            }
+            requests.add(toRequest(job, row));
+            lines.add(row.getLine());
+        }
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        TransactionBulkCreateResponse result = transactionService.createTransactions(job.userId, requests);
+        job.rowsImported.addAndGet(result.getCreated());
+        for (TransactionBulkCreateResponse.RowError error : result.getErrors()) {
+            job.reject(lines.get(error.getIndex()), error.getMessage(), properties.getMaxReportedErrors());
+        }
+    }
+
+    private TransactionCreateRequest toRequest(ImportJob job, StatementRow row) {
+        String description = row.getDescription();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+        }
+        return TransactionCreateRequest.builder()
+                .accountId(job.accountId)
+                .transactionType(row.getAmount().signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME)
+                .amount(row.getAmount().abs())
+                .transactionDate(row.getDate())
+                .description(description)
+                .notes(row.getNotes())
+                .build();
+    }
+
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete statement spool file: {}", path, e);
+        }
+    }
+
+    /**
+     * Mutable progress of one import, shared by its parser and writer threads
+     */
+    private static final class ImportJob {
+        private final UUID id;
+        private final Long userId;
+        private final Long accountId;
+        private final StatementFormat format;
+        private final String bankCode;
+        private final long bytesTotal;
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong rowsParsed = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsFailed = new AtomicLong();
+        private final List<ImportJobResponse.RowError> errors = new ArrayList<>();
+        private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(UUID id, Long userId, Long accountId, StatementFormat format, String bankCode, long bytesTotal) {
+            this.id = id;
+            this.userId = userId;
+            this.accountId = accountId;
+            this.format = format;
+            this.bankCode = bankCode;
+            this.bytesTotal = bytesTotal;
+        }
+
+        private boolean isFinished() {
+            return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+        }
+
+        private void finish(ImportJobStatus finalStatus, String finalMessage) {
+            message = finalMessage;
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private void reject(long line, String error, int maxReportedErrors) {
+            rowsFailed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new ImportJobResponse.RowError(line, error));
+                }
+            }
+        }
+
+        private ImportJobResponse toResponse() {
+            long read = Math.min(bytesRead.get(), bytesTotal);
+            List<ImportJobResponse.RowError> reported;
+            synchronized (errors) {
+                reported = List.copyOf(errors);
+            }
+            return ImportJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .format(format)
+                    .accountId(accountId)
+                    .bankCode(bankCode)
+                    .bytesTotal(bytesTotal)
+                    .bytesRead(read)
+                    .percentComplete(status == ImportJobStatus.COMPLETED ? 100
+                            : bytesTotal > 0 ? (int) (read * 99 / bytesTotal) : 0)
+                    .rowsParsed(rowsParsed.get())
+                    .rowsImported(rowsImported.get())
+                    .rowsFailed(rowsFailed.get())
+                    .errors(reported)
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * Counts bytes handed to the reader so progress can be reported against the file size
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        private CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
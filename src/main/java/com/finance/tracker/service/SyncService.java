@@ -0,0 +1,205 @@
+package com.finance.tracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.finance.tracker.dto.account.AccountResponse;
+import com.finance.tracker.dto.sync.SyncResponse;
+import com.finance.tracker.dto.sync.SyncSnapshotLine;
+import com.finance.tracker.dto.sync.SyncToken;
+import com.finance.tracker.dto.transaction.TransactionResponse;
+import com.finance.tracker.entity.Account;
+import com.finance.tracker.entity.Allocation;
+import com.finance.tracker.entity.Category;
+import com.finance.tracker.entity.SyncTombstone;
+import com.finance.tracker.entity.enums.SyncEntityType;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.finance.tracker.mapper.AccountMapper;
+import com.finance.tracker.mapper.AllocationMapper;
+import com.finance.tracker.mapper.CategoryMapper;
+import com.finance.tracker.repository.AccountRepository;
+import com.finance.tracker.repository.AllocationRepository;
+import com.finance.tracker.repository.CategoryRepository;
+import com.finance.tracker.repository.SyncTombstoneRepository;
+import com.finance.tracker.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service for delta sync of offline clients
+ * A first sync streams a full snapshot as NDJSON; later syncs return only rows changed and ids
+ * deleted since the token. Tokens older than tombstone retention ask the client to re-snapshot.
+ */
+@Service
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+@Slf4j
+public class SyncService {
+
+    public static final String SNAPSHOT_CONTENT_TYPE = "application/x-ndjson";
+
+    /**
+     * updated_at is stamped at flush, not at commit, so a write still in flight when a token is
+     * issued can carry an earlier timestamp. Re-reading this window makes sure it is not missed;
+     * clients upsert by id, so the occasional duplicate is harmless.
+     */
+    static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final AllocationRepository allocationRepository;
+    private final TransactionRepository transactionRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncTombstoneService syncTombstoneService;
+    private final AccountBalanceService accountBalanceService;
+    private final AccountMapper accountMapper;
+    private final CategoryMapper categoryMapper;
+    private final AllocationMapper allocationMapper;
+    private final ObjectWriter snapshotWriter;
+
+    public SyncService(AccountRepository accountRepository,
+                       CategoryRepository categoryRepository,
+                       AllocationRepository allocationRepository,
+                       TransactionRepository transactionRepository,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       SyncTombstoneService syncTombstoneService,
+                       AccountBalanceService accountBalanceService,
+                       AccountMapper accountMapper,
+                       CategoryMapper categoryMapper,
+                       AllocationMapper allocationMapper,
+                       ObjectMapper objectMapper) {
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.allocationRepository = allocationRepository;
+        this.transactionRepository = transactionRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.syncTombstoneService = syncTombstoneService;
+        this.accountBalanceService = accountBalanceService;
+        this.accountMapper = accountMapper;
+        this.categoryMapper = categoryMapper;
+        this.allocationMapper = allocationMapper;
+        // One compact JSON document per line; the caller owns the output stream
+        this.snapshotWriter = objectMapper.writerFor(SyncSnapshotLine.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    /**
+     * Everything changed since the token, read from one REPEATABLE READ snapshot
+     */
+    public SyncResponse sync(Long userId, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = resolveSince(token, now);
+        if (since == null) {
+            log.debug("Sync for user: {} needs a snapshot", userId);
+            return SyncResponse.builder().snapshotRequired(true).build();
+        }
+
+        SyncResponse response = delta(userId, since);
+        response.setSyncToken(new SyncToken(now).encode());
+
+        log.debug("Sync for user: {}, transactions: {}", userId, response.getTransactions().size());
+        return response;
+    }
+
+    /**
+     * Write the user's full data set as NDJSON, read from one REPEATABLE READ snapshot
+     * The first line is the sync token; transactions are streamed from a server-side cursor,
+     * so heap use does not depend on the size of the history
+     */
+    public long writeSnapshot(Long userId, OutputStream out) throws IOException {
+        String syncToken = new SyncToken(LocalDateTime.now()).encode();
+        Map<Long, BigDecimal> balances = accountBalanceService.getBalances(userId);
+
+        long count = 0;
+        try (SequenceWriter writer = snapshotWriter.writeValues(out);
+             Stream<TransactionResponse> transactions = transactionRepository.streamByUser(userId)) {
+            writer.write(SyncSnapshotLine.builder().kind(SyncSnapshotLine.Kind.SYNC_TOKEN).syncToken(syncToken).build());
+            for (Account account : accountRepository.findByUser_Id(userId)) {
+                writer.write(SyncSnapshotLine.builder().kind(SyncSnapshotLine.Kind.ACCOUNT)
+                        .account(toResponse(account, balances)).build());
+                count++;
+            }
+            for (Category category : categoryRepository.findByUser_Id(userId)) {
+                writer.write(SyncSnapshotLine.builder().kind(SyncSnapshotLine.Kind.CATEGORY)
+                        .category(categoryMapper.toResponse(category)).build());
+                count++;
+            }
+            for (Allocation allocation : allocationRepository.findByUser_Id(userId)) {
+                writer.write(SyncSnapshotLine.builder().kind(SyncSnapshotLine.Kind.ALLOCATION)
+                        .allocation(allocationMapper.toResponse(allocation)).build());
+                count++;
+            }
+            Iterator<TransactionResponse> it = transactions.iterator();
+            while (it.hasNext()) {
+                writer.write(SyncSnapshotLine.builder().kind(SyncSnapshotLine.Kind.TRANSACTION)
+                        .transaction(it.next()).build());
+                count++;
+            }
+        }
+        out.write('\n');
+        out.flush();
+
+        log.info("Sync snapshot written: userId={}, rows={}", userId, count);
+        return count;
+    }
+
+    /**
+     * Start of the delta window, or null when a full snapshot is needed
+     */
+    private LocalDateTime resolveSince(String token, LocalDateTime now) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        LocalDateTime issuedAt = SyncToken.decode(token).getIssuedAt();
+        if (issuedAt.isAfter(now)) {
+            throw new InvalidRequestException("Invalid sync token");
+        }
+        LocalDateTime since = issuedAt.minus(OVERLAP);
+        // Tombstones before the cutoff may already be purged, so deletions could be missed
+        return since.isBefore(syncTombstoneService.retentionCutoff()) ? null : since;
+    }
+
+    private SyncResponse delta(Long userId, LocalDateTime since) {
+        Map<SyncEntityType, List<Long>> deleted = syncTombstoneRepository.findByUserIdDeletedAfter(userId, since)
+                .stream()
+                .collect(Collectors.groupingBy(SyncTombstone::getEntityType,
+                        Collectors.mapping(SyncTombstone::getEntityId, Collectors.toList())));
+        List<Account> accounts = accountRepository.findChangedAfter(userId, since);
+        Map<Long, BigDecimal> balances = accounts.isEmpty() ? Map.of() : accountBalanceService.getBalances(userId);
+
+        return SyncResponse.builder()
+                .snapshotRequired(false)
+                .accounts(accounts.stream()
+                        .map(account -> toResponse(account, balances)).collect(Collectors.toList()))
+                .categories(categoryRepository.findByUser_IdAndUpdatedAtAfter(userId, since).stream()
+                        .map(categoryMapper::toResponse).collect(Collectors.toList()))
+                .allocations(allocationRepository.findByUser_IdAndUpdatedAtAfter(userId, since).stream()
+                        .map(allocationMapper::toResponse).collect(Collectors.toList()))
+                .transactions(transactionRepository.findResponsesUpdatedAfter(userId, since))
+                .deletedTransactionIds(deleted.getOrDefault(SyncEntityType.TRANSACTION, List.of()))
+                .deletedAllocationIds(deleted.getOrDefault(SyncEntityType.ALLOCATION, List.of()))
+                .build();
+    }
+
+    private AccountResponse toResponse(Account account, Map<Long, BigDecimal> balances) {
+        AccountResponse response = accountMapper.toResponse(account);
+        response.setBalance(balances.getOrDefault(account.getId(), BigDecimal.ZERO));
+        return response;
+    }
+}
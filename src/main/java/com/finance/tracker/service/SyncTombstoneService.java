@@ -0,0 +1,66 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.entity.SyncTombstone;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.entity.enums.SyncEntityType;
+import com.finance.tracker.repository.SyncTombstoneRepository;
+import com.finance.tracker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Service for sync tombstones
+ * Hard deletes leave a tombstone so delta sync clients learn about them;
+ * tombstones older than the retention window are purged
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class SyncTombstoneService {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final UserRepository userRepository;
+
+    @Value("${app.sync.tombstone-retention-days:90}")
+    private int retentionDays;
+
+    /**
+     * Record deleted entity ids inside the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletions(Long userId, SyncEntityType entityType, Collection<Long> entityIds) {
+        User user = userRepository.getReferenceById(userId);
+        syncTombstoneRepository.saveAll(entityIds.stream()
+                .map(entityId -> SyncTombstone.builder()
+                        .user(user)
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Oldest point in time from which deletions are still fully recorded
+     */
+    public LocalDateTime retentionCutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    /**
+     * Purge expired tombstones; clients with older tokens get a full snapshot instead
+     */
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int purged = syncTombstoneRepository.deleteOlderThan(retentionCutoff());
+        log.info("Sync tombstones purged: count={}", purged);
+    }
+}
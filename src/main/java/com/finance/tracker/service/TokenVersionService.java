@@ -0,0 +1,68 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.repository.UserRepository;
+import com.finance.tracker.service.event.TokensRevokedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Service for access-token revocation
+ * Tokens carry the user's token version; a token is accepted only while that version is current
+ * and the user is active. Versions are cached per user, so authentication normally needs no query.
+ * Local revocations evict immediately after commit; other nodes pick them up within the cache TTL.
+ */
+@Service
+@Slf4j
+public class TokenVersionService {
+
+    private static final long INACTIVE = -1L;
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<Long, Long> versions;
+
+    public TokenVersionService(UserRepository userRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.jwt.token-version-cache-size:100000}") long cacheSize,
+                               @Value("${app.jwt.token-version-cache-seconds:60}") long cacheSeconds) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheSeconds))
+                .build();
+    }
+
+    /**
+     * Whether a token issued with this version is still valid for the user
+     * Runs on every authenticated request, so the service opens no transaction; only a cache miss queries
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long current = versions.get(userId, id -> userRepository.findActiveTokenVersionById(id).orElse(INACTIVE));
+        return current != INACTIVE && current == tokenVersion;
+    }
+
+    /**
+     * Revoke every access token issued to the user so far
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        eventPublisher.publishEvent(new TokensRevokedEvent(userId));
+        log.info("Access tokens revoked: userId={}", userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTokensRevoked(TokensRevokedEvent event) {
+        versions.invalidate(event.getUserId());
+    }
+}
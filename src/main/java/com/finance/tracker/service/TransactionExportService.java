@@ -0,0 +1,148 @@
+package com.finance.tracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.finance.tracker.dto.transaction.TransactionExportFormat;
+import com.finance.tracker.dto.transaction.TransactionResponse;
+import com.finance.tracker.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting a user's full transaction history
+ * Rows are streamed from a server-side cursor straight to the output stream,
+ * so heap use does not depend on the number of transactions
+ */
+@Service
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER = "id,transactionDate,transactionType,transferDirection,amount,currency," +
+            "accountId,accountName,categoryId,categoryName,description,notes,fxRateToBase,transferGroupId," +
+            "createdAt,updatedAt";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectWriter ndjsonWriter;
+
+    public TransactionExportService(TransactionRepository transactionRepository, ObjectMapper objectMapper) {
+        this.transactionRepository = transactionRepository;
+        // One compact JSON document per line; the caller owns the output stream
+        this.ndjsonWriter = objectMapper.writerFor(TransactionResponse.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    /**
+     * Write every transaction of the user to the output stream
+     * Runs in one read-only REPEATABLE READ transaction so the export is a consistent snapshot
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long export(Long userId, TransactionExportFormat format, OutputStream out) throws IOException {
+        log.debug("Exporting transactions for user: {}, format: {}", userId, format);
+
+        long count;
+        try (Stream<TransactionResponse> rows = transactionRepository.streamByUser(userId)) {
+            count = switch (format) {
+                case NDJSON -> writeNdjson(rows, out);
+                case CSV -> writeCsv(rows, out);
+            };
+        }
+
+        log.info("Transactions exported: userId={}, format={}, count={}", userId, format, count);
+        return count;
+    }
+
+    private long writeNdjson(Stream<TransactionResponse> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+            Iterator<TransactionResponse> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.write(it.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Stream<TransactionResponse> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        Iterator<TransactionResponse> it = rows.iterator();
+        while (it.hasNext()) {
+            TransactionResponse t = it.next();
+            writer.write(csvRow(t));
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private String csvRow(TransactionResponse t) {
+        return String.join(",",
+                csv(t.getId()),
+                csv(t.getTransactionDate()),
+                csv(t.getTransactionType()),
+                csv(t.getTransferDirection()),
+                csv(t.getAmount() != null ? t.getAmount().toPlainString() : null),
+                csv(t.getCurrency()),
+                csv(t.getAccountId()),
+                csvText(t.getAccountName()),
+                csv(t.getCategoryId()),
+                csvText(t.getCategoryName()),
+                csvText(t.getDescription()),
+                csvText(t.getNotes()),
+                csv(t.getFxRateToBase() != null ? t.getFxRateToBase().toPlainString() : null),
+                csv(t.getTransferGroupId()),
+                csv(t.getCreatedAt()),
+                csv(t.getUpdatedAt()));
+    }
+
+    /**
+     * CSV field for user-entered text; a leading =, +, -, @, tab or carriage return is prefixed with '
+     * so spreadsheets show the value instead of evaluating it as a formula
+     */
+    private String csvText(String value) {
+        if (value != null && !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            return csv("'" + value);
+        }
+        return csv(value);
+    }
+
+    /**
+     * Quote a CSV field only when it contains a delimiter, quote or line break (RFC 4180)
+     */
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -5,21 +5,34 @@ import com.finance.tracker.entity.Account;
 import com.finance.tracker.entity.Category;
 import com.finance.tracker.entity.Transaction;
 import com.finance.tracker.entity.User;
+import com.finance.tracker.entity.enums.SyncEntityType;
 import com.finance.tracker.entity.enums.TransactionType;
 import com.finance.tracker.entity.enums.TransferDirection;
 import com.finance.tracker.exception.InvalidRequestException;
 import com.finance.tracker.exception.ResourceNotFoundException;
 import com.finance.tracker.mapper.TransactionMapper;
 import com.finance.tracker.repository.TransactionRepository;
+import com.finance.tracker.service.ledger.LedgerEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,11 +45,26 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TransactionService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final int MIN_TEXT_QUERY_LENGTH = 2;
+    private static final int MAX_TEXT_QUERY_LENGTH = 100;
+    public static final int MAX_BULK_SIZE = 10_000;
+    // Rows per flush; a multiple of hibernate.jdbc.batch_size
+    private static final int BULK_FLUSH_SIZE = 1_000;
+
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final AccountService accountService;
     private final CategoryService categoryService;
     private final UserService userService;
+    private final DataVersionService dataVersionService;
+    private final SyncTombstoneService syncTombstoneService;
+    private final AccountBalanceService accountBalanceService;
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final MonthlyRollupService monthlyRollupService;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     /**
      * Create a standard transaction (INCOME, EXPENSE, ADJUSTMENT)
@@ -48,42 +76,106 @@ public class TransactionService {
             throw new InvalidRequestException("Use /api/transactions/transfer for TRANSFER transactions");
         }
 
-        User user = userService.getUserEntityById(userId);
-        Account account = accountService.getAccountEntityById(userId, request.getAccountId());
-        
-        Category category = null;
-        if (request.getCategoryId() != null) {
-            category = categoryService.getCategoryEntityById(userId, request.getCategoryId());
-        }
-
-        // Apply defaults for optional fields
-        if (request.getCurrency() == null) {
-            request.setCurrency(account.getCurrency());
-        }
-        if (request.getTransactionDate() == null) {
-            request.setTransactionDate(LocalDate.now());
-        }
-        if (request.getDescription() == null || request.getDescription().trim().isEmpty()) {
-            request.setDescription(category != null ? category.getName() : "Transaction");
+        // One SELECT checks account and category ownership; the user is only a foreign key. An
+        // INSERT ... SELECT would still need the account and category back for the response and
+        // the ledger, so it would not save a round trip
+        List<Object[]> owned = transactionRepository.findOwnedAccountAndCategory(
+                userId, request.getAccountId(), request.getCategoryId());
+        if (owned.isEmpty()) {
+            throw new ResourceNotFoundException(
+                    "Account not found with id: " + request.getAccountId() + " for user: " + userId);
         }
-        if (request.getTransactionType() == null) {
-            // Infer from category type if available, otherwise default to EXPENSE
-            request.setTransactionType(category != null && category.getType() != null 
-                ? TransactionType.valueOf(category.getType().name()) 
-                : TransactionType.EXPENSE);
+        Account account = (Account) owned.get(0)[0];
+        Category category = (Category) owned.get(0)[1];
+        if (request.getCategoryId() != null && category == null) {
+            throw new ResourceNotFoundException(
+                    "Category not found with id: " + request.getCategoryId() + " for user: " + userId);
         }
 
-        Transaction transaction = transactionMapper.toEntity(request);
-        transaction.setUser(user);
-        transaction.setAccount(account);
-        transaction.setCategory(category);
+        Transaction transaction = buildTransaction(userService.getUserReference(userId), account, category, request);
 
-        Transaction saved = transactionRepository.save(transaction);
+        // Flush now so generated timestamps are in the response
+        Transaction saved = transactionRepository.saveAndFlush(transaction);
+        recordLedger(List.of(LedgerEntry.of(saved)));
+        dataVersionService.bump(userId);
         log.info("Transaction created: id={}, type={}", saved.getId(), saved.getTransactionType());
 
         return transactionMapper.toResponse(saved);
     }
 
+    /**
+     * Create many standard transactions in one database transaction
+     * Each row is validated on its own and rejected rows are reported by index; account and
+     * category ownership is checked once per distinct id, and inserts go out as JDBC batches
+     */
+    public TransactionBulkCreateResponse createTransactions(Long userId, List<TransactionCreateRequest> requests) {
+        log.debug("Bulk creating transactions for user: {}, rows: {}", userId, requests.size());
+
+        List<TransactionBulkCreateResponse.RowError> errors = new ArrayList<>();
+        List<Integer> validRows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validateBulkRow(requests.get(i));
+            if (error != null) {
+                errors.add(new TransactionBulkCreateResponse.RowError(i, error));
+            } else {
+                validRows.add(i);
+            }
+        }
+
+        Map<Long, Account> accounts = accountService.getAccountEntitiesByIds(userId, validRows.stream()
+                .map(i -> requests.get(i).getAccountId())
+                .collect(Collectors.toSet()));
+        Map<Long, Category> categories = categoryService.getCategoryEntitiesByIds(userId, validRows.stream()
+                .map(i -> requests.get(i).getCategoryId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        User user = userService.getUserReference(userId);
+        Long[] ids = new Long[requests.size()];
+        List<Transaction> chunk = new ArrayList<>(BULK_FLUSH_SIZE);
+        List<Integer> chunkRows = new ArrayList<>(BULK_FLUSH_SIZE);
+        int created = 0;
+
+        for (int i : validRows) {
+            TransactionCreateRequest request = requests.get(i);
+            Account account = accounts.get(request.getAccountId());
+            if (account == null) {
+                errors.add(new TransactionBulkCreateResponse.RowError(i, "Account not found with id: " + request.getAccountId()));
+                continue;
+            }
+            Category category = null;
+            if (request.getCategoryId() != null) {
+                category = categories.get(request.getCategoryId());
+                if (category == null) {
+                    errors.add(new TransactionBulkCreateResponse.RowError(i, "Category not found with id: " + request.getCategoryId()));
+                    continue;
+                }
+            }
+
+            chunk.add(buildTransaction(user, account, category, request));
+            chunkRows.add(i);
+            if (chunk.size() == BULK_FLUSH_SIZE) {
+                created += flushBulkChunk(chunk, chunkRows, ids);
+            }
+        }
+        created += flushBulkChunk(chunk, chunkRows, ids);
+
+        if (created > 0) {
+            dataVersionService.bump(userId);
+        }
+        errors.sort(Comparator.comparingInt(TransactionBulkCreateResponse.RowError::getIndex));
+        log.info("Transactions bulk created: userId={}, received={}, created={}, failed={}",
+                userId, requests.size(), created, errors.size());
+
+        return TransactionBulkCreateResponse.builder()
+                .received(requests.size())
+                .created(created)
+                .failed(errors.size())
+                .ids(Arrays.asList(ids))
+                .errors(errors)
+                .build();
+    }
+
     /**
      * Create a TRANSFER (creates two linked transactions)
      */
@@ -94,9 +186,12 @@ public class TransactionService {
             throw new InvalidRequestException("Source and destination accounts must be different");
         }
 
-        User user = userService.getUserEntityById(userId);
-        Account fromAccount = accountService.getAccountEntityById(userId, request.getFromAccountId());
-        Account toAccount = accountService.getAccountEntityById(userId, request.getToAccountId());
+        // Both accounts in one SELECT; the user is only a foreign key
+        User user = userService.getUserReference(userId);
+        Map<Long, Account> accounts = accountService.getAccountEntitiesByIds(
+                userId, List.of(request.getFromAccountId(), request.getToAccountId()));
+        Account fromAccount = requireAccount(accounts, userId, request.getFromAccountId());
+        Account toAccount = requireAccount(accounts, userId, request.getToAccountId());
 
         UUID transferGroupId = UUID.randomUUID();
 
@@ -130,26 +225,102 @@ public class TransactionService {
                 .notes(request.getNotes())
                 .build();
 
-        Transaction savedOut = transactionRepository.save(outTx);
-        Transaction savedIn = transactionRepository.save(inTx);
+        // Both legs go out in one JDBC batch, rewritten by the driver into a single multi-row INSERT
+        transactionRepository.saveAll(List.of(outTx, inTx));
+        transactionRepository.flush();
+        recordLedger(List.of(LedgerEntry.of(outTx), LedgerEntry.of(inTx)));
+        dataVersionService.bump(userId);
 
-        log.info("Transfer created: groupId={}, outId={}, inId={}", transferGroupId, savedOut.getId(), savedIn.getId());
+        log.info("Transfer created: groupId={}, outId={}, inId={}", transferGroupId, outTx.getId(), inTx.getId());
 
         return TransferResponse.builder()
                 .transferGroupId(transferGroupId)
-                .outgoingTransaction(transactionMapper.toResponse(savedOut))
-                .incomingTransaction(transactionMapper.toResponse(savedIn))
+                .outgoingTransaction(transactionMapper.toResponse(outTx))
+                .incomingTransaction(transactionMapper.toResponse(inTx))
                 .build();
     }
 
     /**
-     * Get all transactions for user
+     * Get one keyset page of the user's transactions
+     * Ordered by (transactionDate DESC, id DESC); pass the previous nextCursor to continue
+     */
+    @Transactional(readOnly = true)
+    public TransactionPageResponse getUserTransactions(Long userId, String cursor, int size) {
+        validatePageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TransactionResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findPageByUser(userId, limit);
+        } else {
+            TransactionCursor after = TransactionCursor.decode(cursor);
+            rows = transactionRepository.findPageByUserAfter(userId, after.getTransactionDate(), after.getId(), limit);
+        }
+        return toPage(rows, size, last -> new TransactionCursor(last.getTransactionDate(), last.getId()).encode());
+    }
+
+    /**
+     * Search the user's transactions with any combination of filters
+     * Keyset paged on (sort key, id) in the requested direction
+     */
+    @Transactional(readOnly = true)
+    public TransactionPageResponse searchTransactions(Long userId, TransactionSearchRequest request) {
+        validatePageSize(request.getSize());
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new InvalidRequestException("'from' date must not be after 'to' date");
+        }
+        if (request.getMinAmount() != null && request.getMaxAmount() != null
+                && request.getMinAmount().compareTo(request.getMaxAmount()) > 0) {
+            throw new InvalidRequestException("Minimum amount must not exceed maximum amount");
+        }
+
+        TransactionSearchCursor after = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            after = TransactionSearchCursor.decode(request.getCursor(), request.getSort(), request.getDirection());
+        }
+
+        List<TransactionResponse> rows = transactionRepository.search(userId, request, after, request.getSize() + 1);
+        return toPage(rows, request.getSize(), last -> TransactionSearchCursor.of(
+                request.getSort(), request.getDirection(),
+                last.getTransactionDate(), last.getAmount(), last.getId()).encode());
+    }
+
+    /**
+     * Ranked full-text and fuzzy search over description and notes
      */
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getUserTransactions(Long userId) {
-        return transactionRepository.findByUser_IdOrderByTransactionDateDesc(userId).stream()
-                .map(transactionMapper::toResponse)
+    public TransactionTextSearchResponse searchTransactionsByText(Long userId, String query, int page, int size) {
+        validatePageSize(size);
+        if (query == null || query.trim().length() < MIN_TEXT_QUERY_LENGTH) {
+            throw new InvalidRequestException("Search text must be at least " + MIN_TEXT_QUERY_LENGTH + " characters");
+        }
+        if (query.length() > MAX_TEXT_QUERY_LENGTH) {
+            throw new InvalidRequestException("Search text cannot exceed " + MAX_TEXT_QUERY_LENGTH + " characters");
+        }
+        if (page < 0) {
+            throw new InvalidRequestException("Page must not be negative");
+        }
+
+        List<Long> ids = transactionRepository.searchIdsByText(userId, query.trim(), size + 1, (long) page * size);
+        boolean hasMore = ids.size() > size;
+        List<Long> pageIds = hasMore ? ids.subList(0, size) : ids;
+
+        // Re-apply the rank order, which an IN lookup does not keep
+        Map<Long, TransactionResponse> byId = pageIds.isEmpty()
+                ? Map.of()
+                : transactionRepository.findResponsesByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(TransactionResponse::getId, Function.identity()));
+        List<TransactionResponse> items = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+
+        return TransactionTextSearchResponse.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .hasMore(hasMore)
+                .build();
     }
 
     /**
@@ -173,12 +344,17 @@ public class TransactionService {
             throw new InvalidRequestException("Direct update of TRANSFER transactions is not allowed. Please delete and recreate.");
         }
 
+        // Snapshot before any change, so a category move reverses the old category's rollup
+        LedgerEntry before = LedgerEntry.of(transaction);
+
         if (request.getCategoryId() != null) {
             Category category = categoryService.getCategoryEntityById(userId, request.getCategoryId());
             transaction.setCategory(category);
         }
 
         transactionMapper.updateEntity(transaction, request);
+        recordLedger(List.of(before.reversal(), LedgerEntry.of(transaction)));
+        dataVersionService.bump(userId);
         log.info("Transaction updated: id={}", transactionId);
 
         return transactionMapper.toResponse(transaction);
@@ -195,23 +371,154 @@ public class TransactionService {
         if (transaction.isTransfer()) {
             List<Transaction> linked = transactionRepository.findByTransferGroupId(transaction.getTransferGroupId());
             transactionRepository.deleteAll(linked);
+            recordLedger(linked.stream().map(t -> LedgerEntry.of(t).reversal()).toList());
+            syncTombstoneService.recordDeletions(userId, SyncEntityType.TRANSACTION,
+                    linked.stream().map(Transaction::getId).toList());
             log.info("Transfer deleted: groupId={}, count={}", transaction.getTransferGroupId(), linked.size());
         } else {
             transactionRepository.delete(transaction);
+            recordLedger(List.of(LedgerEntry.of(transaction).reversal()));
+            syncTombstoneService.recordDeletions(userId, SyncEntityType.TRANSACTION, List.of(transactionId));
             log.info("Transaction deleted: id={}", transactionId);
         }
+        dataVersionService.bump(userId);
     }
 
     /**
-     * Get transactions for a specific account
+     * Get one keyset page of transactions for a specific account
      */
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getAccountTransactions(Long userId, Long accountId) {
+    public TransactionPageResponse getAccountTransactions(Long userId, Long accountId, String cursor, int size) {
+        validatePageSize(size);
+
         // Verify account ownership
         accountService.getAccountEntityById(userId, accountId);
-        
-        return transactionRepository.findByAccount_IdOrderByTransactionDateDesc(accountId).stream()
-                .map(transactionMapper::toResponse)
-                .collect(Collectors.toList());
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TransactionResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findPageByAccount(accountId, limit);
+        } else {
+            TransactionCursor after = TransactionCursor.decode(cursor);
+            rows = transactionRepository.findPageByAccountAfter(accountId, after.getTransactionDate(), after.getId(), limit);
+        }
+        return toPage(rows, size, last -> new TransactionCursor(last.getTransactionDate(), last.getId()).encode());
+    }
+
+    /**
+     * Internal helper to apply defaults for optional fields and build an unsaved transaction
+     */
+    private Transaction buildTransaction(User user, Account account, Category category, TransactionCreateRequest request) {
+        if (request.getCurrency() == null) {
+            request.setCurrency(account.getCurrency());
+        }
+        if (request.getTransactionDate() == null) {
+            request.setTransactionDate(LocalDate.now());
+        }
+        if (request.getDescription() == null || request.getDescription().trim().isEmpty()) {
+            request.setDescription(category != null ? category.getName() : "Transaction");
+        }
+        if (request.getTransactionType() == null) {
+            // Infer from category type if available, otherwise default to EXPENSE
+            request.setTransactionType(category != null && category.getType() != null 
+                ? TransactionType.valueOf(category.getType().name()) 
+                : TransactionType.EXPENSE);
+        }
+
+        Transaction transaction = transactionMapper.toEntity(request);
+        transaction.setUser(user);
+        transaction.setAccount(account);
+        transaction.setCategory(category);
+        return transaction;
+    }
+
+    /**
+     * Internal helper to keep derived data in step with a write, inside the same transaction
+     * Every create, update and delete path goes through here
+     */
+    private void recordLedger(List<LedgerEntry> entries) {
+        accountBalanceService.apply(entries);
+        balanceCheckpointService.apply(entries);
+        monthlyRollupService.apply(entries);
+    }
+
+    /**
+     * Internal helper to pick an owned account from a bulk lookup
+     */
+    private Account requireAccount(Map<Long, Account> accounts, Long userId, Long accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null) {
+            throw new ResourceNotFoundException("Account not found with id: " + accountId + " for user: " + userId);
+        }
+        return account;
+    }
+
+    /**
+     * Internal helper to validate one bulk row; returns the error message or null when valid
+     */
+    private String validateBulkRow(TransactionCreateRequest request) {
+        if (request == null) {
+            return "Transaction is required";
+        }
+        Set<ConstraintViolation<TransactionCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (request.getTransactionType() == TransactionType.TRANSFER) {
+            return "Use /api/transactions/transfer for TRANSFER transactions";
+        }
+        return null;
+    }
+
+    /**
+     * Internal helper to insert a chunk of bulk rows and detach it
+     * Flushing per chunk keeps the persistence context (and dirty checking) small
+     */
+    private int flushBulkChunk(List<Transaction> chunk, List<Integer> chunkRows, Long[] ids) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        transactionRepository.saveAll(chunk);
+        recordLedger(chunk.stream().map(LedgerEntry::of).toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int j = 0; j < chunk.size(); j++) {
+            ids[chunkRows.get(j)] = chunk.get(j).getId();
+        }
+        int count = chunk.size();
+        chunk.clear();
+        chunkRows.clear();
+        return count;
+    }
+
+    /**
+     * Internal helper to reject page sizes outside [1, MAX_PAGE_SIZE]
+     */
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Internal helper to build a page from size + 1 fetched rows
+     * The extra row only signals that another page exists and is not returned
+     */
+    private TransactionPageResponse toPage(List<TransactionResponse> rows, int size,
+                                           Function<TransactionResponse, String> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<TransactionResponse> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        return TransactionPageResponse.builder()
+                .items(new ArrayList<>(pageRows))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 }
@@ -0,0 +1,180 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.dashboard.TrendResponse;
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.exception.InvalidRequestException;
+import com.finance.tracker.repository.MonthlyRollupRepository;
+import com.finance.tracker.repository.MonthlyTypeTotal;
+import com.finance.tracker.service.event.MonthlyRollupsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for the monthly income/expense trend
+ * Figures come from monthly_rollups in one grouped query. Closed months only change through
+ * back-dated writes, so they are cached per (user, month) and evicted when a committed write
+ * touches their rollups; entries also expire after a fixed TTL, which bounds staleness from
+ * changes made elsewhere (other instances, reconciliation). The current month is always read fresh.
+ */
+@Service
+public class TrendService {
+
+    public static final int MAX_MONTHS = 120;
+    private static final String CACHE_NAME = "dashboard.trend";
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final Cache<MonthKey, Map<Currency, TrendResponse.Figures>> closedMonths;
+
+    // Per-user eviction counters (also the lock for that user's cache writes), so a load that
+    // raced an eviction of the same user's months does not cache stale figures. Idle counters
+    // expire well after the months they guard, so the map stays bounded by active users.
+    private final Cache<Long, AtomicLong> evictions;
+
+    public TrendService(MonthlyRollupRepository monthlyRollupRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.dashboard.trend-cache-max-months:200000}") long maxMonths,
+                        @Value("${app.dashboard.trend-cache-ttl-minutes:60}") long ttlMinutes) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.closedMonths = Caffeine.newBuilder()
+                .maximumSize(maxMonths)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, closedMonths, CACHE_NAME);
+        this.evictions = Caffeine.newBuilder()
+                .maximumSize(maxMonths)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes * 2))
+                .build();
+    }
+
+    /**
+     * Income, expense and savings per currency for the last `months` months including the current one
+     */
+    public TrendResponse getTrend(Long userId, int months) {
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new InvalidRequestException("Months must be between 1 and " + MAX_MONTHS);
+        }
+        YearMonth current = YearMonth.now();
+        YearMonth first = current.minusMonths(months - 1L);
+
+        List<MonthKey> closedKeys = new ArrayList<>();
+        for (YearMonth month = first; month.isBefore(current); month = month.plusMonths(1)) {
+            closedKeys.add(new MonthKey(userId, month));
+        }
+        Map<MonthKey, Map<Currency, TrendResponse.Figures>> cached = closedMonths.getAllPresent(closedKeys);
+
+        // One query from the oldest uncached month through the current month
+        YearMonth loadFrom = closedKeys.stream()
+                .filter(key -> !cached.containsKey(key))
+                .map(MonthKey::getMonth)
+                .findFirst()
+                .orElse(current);
+        AtomicLong userEvictions = evictions.get(userId, id -> new AtomicLong());
+        long evictionsBefore = userEvictions.get();
+        Map<YearMonth, Map<Currency, TrendResponse.Figures>> loaded = load(userId, loadFrom, current);
+
+        Map<MonthKey, Map<Currency, TrendResponse.Figures>> toCache = new HashMap<>();
+        for (YearMonth month = loadFrom; month.isBefore(current); month = month.plusMonths(1)) {
+            MonthKey key = new MonthKey(userId, month);
+            if (!cached.containsKey(key)) {
+                toCache.put(key, loaded.getOrDefault(month, Map.of()));
+            }
+        }
+        synchronized (userEvictions) {
+            // A replaced counter means evictions may have been counted on the new one
+            if (userEvictions.get() == evictionsBefore && evictions.getIfPresent(userId) == userEvictions) {
+                closedMonths.putAll(toCache);
+            }
+        }
+
+        List<TrendResponse.Month> series = new ArrayList<>(months);
+        for (YearMonth month = first; !month.isAfter(current); month = month.plusMonths(1)) {
+            Map<Currency, TrendResponse.Figures> figures = cached.get(new MonthKey(userId, month));
+            if (figures == null) {
+                figures = loaded.getOrDefault(month, Map.of());
+            }
+            series.add(TrendResponse.Month.builder().month(month).byCurrency(figures).build());
+        }
+
+        return TrendResponse.builder()
+                .from(first)
+                .to(current)
+                .months(series)
+                .build();
+    }
+
+    /**
+     * Evict the touched months once a write has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRollupsChanged(MonthlyRollupsChangedEvent event) {
+        List<MonthKey> keys = event.getMonthStarts().stream()
+                .map(monthStart -> new MonthKey(event.getUserId(), YearMonth.from(monthStart)))
+                .toList();
+        AtomicLong userEvictions = evictions.get(event.getUserId(), id -> new AtomicLong());
+        synchronized (userEvictions) {
+            userEvictions.incrementAndGet();
+            closedMonths.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * Internal helper: grouped rollup totals for [from, to], folded into per-month, per-currency figures
+     */
+    private Map<YearMonth, Map<Currency, TrendResponse.Figures>> load(Long userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, Map<Currency, BigDecimal[]>> sums = new HashMap<>();
+        for (MonthlyTypeTotal total : monthlyRollupRepository.sumByMonthTypeAndCurrency(
+                userId, from.atDay(1), to.atDay(1))) {
+            BigDecimal[] incomeExpense = sums
+                    .computeIfAbsent(YearMonth.from(total.getMonthStart()), m -> new EnumMap<>(Currency.class))
+                    .computeIfAbsent(total.getCurrency(), c -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            int slot = total.getTransactionType() == TransactionType.INCOME ? 0 : 1;
+            incomeExpense[slot] = incomeExpense[slot].add(total.getTotal());
+        }
+
+        Map<YearMonth, Map<Currency, TrendResponse.Figures>> figures = new HashMap<>();
+        sums.forEach((month, byCurrency) -> {
+            Map<Currency, TrendResponse.Figures> monthFigures = new EnumMap<>(Currency.class);
+            byCurrency.forEach((currency, incomeExpense) -> monthFigures.put(currency, TrendResponse.Figures.builder()
+                    .income(incomeExpense[0])
+                    .expense(incomeExpense[1])
+                    .savings(incomeExpense[0].subtract(incomeExpense[1]))
+                    .build()));
+            figures.put(month, Collections.unmodifiableMap(monthFigures));
+        });
+        return figures;
+    }
+
+    /**
+     * Cache key: one closed month of one user
+     */
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class MonthKey {
+        private final Long userId;
+        private final YearMonth month;
+    }
+}
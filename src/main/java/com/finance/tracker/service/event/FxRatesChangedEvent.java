@@ -0,0 +1,7 @@
+package com.finance.tracker.service.event;
+
+/**
+ * Published after FxRateService loads a snapshot that differs from the previous one
+ */
+public class FxRatesChangedEvent {
+}
@@ -0,0 +1,17 @@
+package com.finance.tracker.service.event;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Published when a write changes a user's monthly rollups; monthStarts are the first days of the touched months
+ * Listen with @TransactionalEventListener so only committed changes are seen
+ */
+@Value
+public class MonthlyRollupsChangedEvent {
+
+    Long userId;
+    Set<LocalDate> monthStarts;
+}
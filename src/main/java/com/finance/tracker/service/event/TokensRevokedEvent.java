@@ -0,0 +1,13 @@
+package com.finance.tracker.service.event;
+
+import lombok.Value;
+
+/**
+ * Published when every access token of a user is revoked (token version bumped)
+ * Listen with @TransactionalEventListener so only committed revocations are seen
+ */
+@Value
+public class TokensRevokedEvent {
+
+    Long userId;
+}
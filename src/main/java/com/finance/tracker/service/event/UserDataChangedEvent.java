@@ -0,0 +1,13 @@
+package com.finance.tracker.service.event;
+
+import lombok.Value;
+
+/**
+ * Published whenever a user's accounts, categories, transactions or allocations change
+ * Listen with @TransactionalEventListener so only committed changes are seen
+ */
+@Value
+public class UserDataChangedEvent {
+
+    Long userId;
+}
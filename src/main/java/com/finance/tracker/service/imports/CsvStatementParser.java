@@ -0,0 +1,137 @@
+package com.finance.tracker.service.imports;
+
+import com.finance.tracker.config.StatementImportProperties.BankProfile;
+import com.finance.tracker.dto.imports.StatementFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV statement parser (RFC 4180 quoting, delimiter and columns from the bank profile)
+ */
+@Component
+public class CsvStatementParser implements StatementParser {
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.CSV;
+    }
+
+    @Override
+    public void parse(BufferedReader reader, BankProfile profile, RowSink sink) throws IOException, InterruptedException {
+        DateTimeFormatter dateFormat = StatementValues.dateFormatter(profile.getDateFormat());
+        char delimiter = profile.getDelimiter();
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        long line = 1;
+        long recordLine = 1;
+        long records = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (inQuotes) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        reader.reset();
+                    }
+                    continue;
+                }
+                if (ch == '\n') {
+                    line++;
+                }
+                append(field, ch, recordLine);
+            } else if (ch == '"' && field.isEmpty()) {
+                inQuotes = true;
+            } else if (ch == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                fields.add(field.toString());
+                field.setLength(0);
+                if (++records > profile.getHeaderLines()) {
+                    emit(fields, recordLine, profile, dateFormat, sink);
+                }
+                fields.clear();
+                recordLine = ++line;
+            } else if (ch != '\r') {
+                append(field, ch, recordLine);
+            }
+        }
+        if (!fields.isEmpty() || !field.isEmpty()) {
+            fields.add(field.toString());
+            if (++records > profile.getHeaderLines()) {
+                emit(fields, recordLine, profile, dateFormat, sink);
+            }
+        }
+    }
+
+    private void append(StringBuilder field, char ch, long recordLine) throws IOException {
+        if (field.length() >= StatementValues.MAX_FIELD_LENGTH) {
+            throw new IOException("Field too long in record starting at line " + recordLine + " (unterminated quote?)");
+        }
+        field.append(ch);
+    }
+
+    private void emit(List<String> fields, long line, BankProfile profile, DateTimeFormatter dateFormat, RowSink sink)
+            throws InterruptedException {
+        if (fields.stream().allMatch(String::isBlank)) {
+            return;
+        }
+        try {
+            String date = column(fields, profile.getDateColumn());
+            if (date == null) {
+                sink.accept(StatementRow.error(line, "Missing date"));
+                return;
+            }
+            BigDecimal amount = amount(fields, profile);
+            if (amount == null) {
+                sink.accept(StatementRow.error(line, "Missing amount"));
+                return;
+            }
+            sink.accept(StatementRow.of(
+                    line,
+                    LocalDate.parse(date, dateFormat),
+                    amount,
+                    column(fields, profile.getDescriptionColumn()),
+                    profile.getNotesColumn() != null ? column(fields, profile.getNotesColumn()) : null));
+        } catch (DateTimeParseException e) {
+            sink.accept(StatementRow.error(line, "Invalid date, expected " + profile.getDateFormat()));
+        } catch (NumberFormatException e) {
+            sink.accept(StatementRow.error(line, "Invalid amount"));
+        }
+    }
+
+    /**
+     * Signed amount from one column, or credit minus debit when the bank splits them
+     */
+    private BigDecimal amount(List<String> fields, BankProfile profile) {
+        if (profile.getDebitColumn() == null && profile.getCreditColumn() == null) {
+            return StatementValues.parseAmount(column(fields, profile.getAmountColumn()), profile.getDecimalSeparator());
+        }
+        BigDecimal debit = StatementValues.parseAmount(column(fields, profile.getDebitColumn()), profile.getDecimalSeparator());
+        BigDecimal credit = StatementValues.parseAmount(column(fields, profile.getCreditColumn()), profile.getDecimalSeparator());
+        if (debit == null && credit == null) {
+            return null;
+        }
+        BigDecimal amount = credit != null ? credit.abs() : BigDecimal.ZERO;
+        return debit != null ? amount.subtract(debit.abs()) : amount;
+    }
+
+    private String column(List<String> fields, Integer index) {
+        return index != null && index < fields.size() ? StatementValues.text(fields.get(index)) : null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.finance.tracker.service.imports;
+
+import com.finance.tracker.config.StatementImportProperties.BankProfile;
+import com.finance.tracker.dto.imports.StatementFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OFX statement parser
+ * Reads both SGML (OFX 1.x, no closing tags on values) and XML (OFX 2.x) tag by tag,
+ * collecting only the fields of the current STMTTRN block
+ */
+@Component
+public class OfxStatementParser implements StatementParser {
+
+    private static final int MAX_TAG_LENGTH = 64;
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public void parse(BufferedReader reader, BankProfile profile, RowSink sink) throws IOException, InterruptedException {
+        Map<String, String> transaction = null;
+        String openTag = null;
+        StringBuilder text = new StringBuilder();
+        long line = 1;
+        long transactionLine = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (ch == '\n') {
+                line++;
+            }
+            if (ch != '<') {
+                if (openTag != null && text.length() < StatementValues.MAX_FIELD_LENGTH) {
+                    text.append(ch);
+                }
+                continue;
+            }
+
+            // A value ends at the next tag, closing or not
+            if (transaction != null && openTag != null) {
+                String value = StatementValues.text(text.toString());
+                if (value != null) {
+                    transaction.put(openTag, value);
+                }
+            }
+            text.setLength(0);
+
+            String tag = readTag(reader, line);
+            if (tag.equals("STMTTRN")) {
+                transaction = new HashMap<>();
+                transactionLine = line;
+                openTag = null;
+            } else if (tag.equals("/STMTTRN")) {
+                if (transaction != null) {
+                    sink.accept(toRow(transaction, transactionLine));
+                }
+                transaction = null;
+                openTag = null;
+            } else {
+                openTag = tag.startsWith("/") ? null : tag;
+            }
+        }
+    }
+
+    private String readTag(BufferedReader reader, long line) throws IOException {
+        StringBuilder tag = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '>') {
+            if (tag.length() >= MAX_TAG_LENGTH) {
+                throw new IOException("Malformed OFX tag at line " + line);
+            }
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase();
+    }
+
+    private StatementRow toRow(Map<String, String> transaction, long line) {
+        String posted = transaction.get("DTPOSTED");
+        String amount = transaction.get("TRNAMT");
+        if (posted == null || posted.length() < 8) {
+            return StatementRow.error(line, "Missing or invalid DTPOSTED");
+        }
+        if (amount == null) {
+            return StatementRow.error(line, "Missing TRNAMT");
+        }
+        try {
+            // OFX amounts use '.' but some banks send ','
+            char decimalSeparator = amount.indexOf('.') < 0 && amount.indexOf(',') >= 0 ? ',' : '.';
+            BigDecimal value = StatementValues.parseAmount(amount, decimalSeparator);
+            LocalDate date = LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+
+            String name = transaction.get("NAME");
+            String memo = transaction.get("MEMO");
+            return StatementRow.of(line, date, value, name != null ? name : memo, name != null ? memo : null);
+        } catch (DateTimeParseException e) {
+            return StatementRow.error(line, "Invalid DTPOSTED");
+        } catch (NumberFormatException e) {
+            return StatementRow.error(line, "Invalid TRNAMT");
+        }
+    }
+}
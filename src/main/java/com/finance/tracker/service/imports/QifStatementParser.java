@@ -0,0 +1,89 @@
+package com.finance.tracker.service.imports;
+
+import com.finance.tracker.config.StatementImportProperties.BankProfile;
+import com.finance.tracker.dto.imports.StatementFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * QIF statement parser
+ * One field per line (D date, T/U amount, P payee, M memo), records end with '^';
+ * dates use the bank profile's format, with the Quicken "'" year separator accepted
+ */
+@Component
+public class QifStatementParser implements StatementParser {
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.QIF;
+    }
+
+    @Override
+    public void parse(BufferedReader reader, BankProfile profile, RowSink sink) throws IOException, InterruptedException {
+        DateTimeFormatter dateFormat = StatementValues.dateFormatter(profile.getDateFormat());
+        String date = null;
+        String amount = null;
+        String payee = null;
+        String memo = null;
+        long line = 0;
+        long recordLine = 0;
+
+        String raw;
+        while ((raw = reader.readLine()) != null) {
+            line++;
+            if (raw.length() > StatementValues.MAX_FIELD_LENGTH) {
+                throw new IOException("Line " + line + " is too long");
+            }
+            String value = raw.strip();
+            if (value.isEmpty() || value.startsWith("!")) {
+                continue;
+            }
+            if (recordLine == 0) {
+                recordLine = line;
+            }
+            switch (value.charAt(0)) {
+                case 'D' -> date = value.substring(1).replace('\'', '/').replace(" ", "");
+                case 'T' -> amount = value.substring(1);
+                case 'U' -> amount = amount != null ? amount : value.substring(1);
+                case 'P' -> payee = StatementValues.text(value.substring(1));
+                case 'M' -> memo = StatementValues.text(value.substring(1));
+                case '^' -> {
+                    sink.accept(toRow(recordLine, date, amount, payee, memo, profile, dateFormat));
+                    date = amount = payee = memo = null;
+                    recordLine = 0;
+                }
+                default -> {
+                    // Check numbers, categories, splits and addresses are not imported
+                }
+            }
+        }
+        if (date != null || amount != null) {
+            sink.accept(toRow(recordLine, date, amount, payee, memo, profile, dateFormat));
+        }
+    }
+
+    private StatementRow toRow(long line, String date, String amount, String payee, String memo,
+                               BankProfile profile, DateTimeFormatter dateFormat) {
+        if (date == null) {
+            return StatementRow.error(line, "Missing date");
+        }
+        try {
+            BigDecimal value = StatementValues.parseAmount(amount, profile.getDecimalSeparator());
+            if (value == null) {
+                return StatementRow.error(line, "Missing amount");
+            }
+            return StatementRow.of(line, LocalDate.parse(date, dateFormat), value,
+                    payee != null ? payee : memo, payee != null ? memo : null);
+        } catch (DateTimeParseException e) {
+            return StatementRow.error(line, "Invalid date, expected " + profile.getDateFormat());
+        } catch (NumberFormatException e) {
+            return StatementRow.error(line, "Invalid amount");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.finance.tracker.service.imports;
+
+import com.finance.tracker.config.StatementImportProperties.BankProfile;
+import com.finance.tracker.dto.imports.StatementFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Streaming parser for one statement format
+ * Rows are handed to the sink as they are read, so memory does not grow with file size
+ */
+public interface StatementParser {
+
+    StatementFormat format();
+
+    void parse(BufferedReader reader, BankProfile profile, RowSink sink) throws IOException, InterruptedException;
+
+    /**
+     * Receives parsed rows; may block when the import queue is full
+     */
+    @FunctionalInterface
+    interface RowSink {
+        void accept(StatementRow row) throws InterruptedException;
+    }
+}
@@ -0,0 +1,33 @@
+package com.finance.tracker.service.imports;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One parsed statement line: either a signed amount with its date and text, or an error
+ * Negative amounts are money leaving the account
+ */
+@Value
+public class StatementRow {
+
+    long line;
+    LocalDate date;
+    BigDecimal amount;
+    String description;
+    String notes;
+    String error;
+
+    public static StatementRow of(long line, LocalDate date, BigDecimal amount, String description, String notes) {
+        return new StatementRow(line, date, amount, description, notes, null);
+    }
+
+    public static StatementRow error(long line, String error) {
+        return new StatementRow(line, null, null, null, null, error);
+    }
+
+    public boolean isError() {
+        return error != null;
+    }
+}
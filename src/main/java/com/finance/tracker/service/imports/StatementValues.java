@@ -0,0 +1,69 @@
+package com.finance.tracker.service.imports;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Locale;
+
+/**
+ * Value parsing shared by the statement parsers
+ */
+final class StatementValues {
+
+    /**
+     * Longest value kept for a single field; longer input is a broken file, not a statement
+     */
+    static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    private StatementValues() {
+    }
+
+    /**
+     * Parse a bank-formatted amount such as "-1,234.50", "1.234,50", "(12.00)" or "12.00-"
+     * Returns null for a blank value
+     */
+    static BigDecimal parseAmount(String raw, char decimalSeparator) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String value = raw.trim();
+        boolean negative = value.startsWith("-") || value.endsWith("-")
+                || (value.startsWith("(") && value.endsWith(")"));
+
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (Character.isDigit(ch)) {
+                digits.append(ch);
+            } else if (ch == decimalSeparator) {
+                digits.append('.');
+            }
+        }
+        if (digits.isEmpty()) {
+            throw new NumberFormatException("No digits in amount: " + raw);
+        }
+        BigDecimal amount = new BigDecimal(digits.toString());
+        return negative ? amount.negate() : amount;
+    }
+
+    /**
+     * Date formatter for a profile pattern; month names are matched in English, ignoring case
+     */
+    static DateTimeFormatter dateFormatter(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendPattern(pattern)
+                .toFormatter(Locale.ENGLISH);
+    }
+
+    /**
+     * Trim a text field and map blank to null
+     */
+    static String text(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String value = raw.trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,52 @@
+package com.finance.tracker.service.ledger;
+
+import com.finance.tracker.entity.Transaction;
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Snapshot of a transaction's effect on derived data (balances and aggregates)
+ * Writes record an entry for the new state and a reversal of the old state, so derived stores
+ * only ever add deltas. signedAmount is the balance effect; amount and count are the report effect.
+ */
+@Value
+public class LedgerEntry {
+
+    Long userId;
+    Long accountId;
+    Long categoryId;
+    TransactionType transactionType;
+    Currency currency;
+    LocalDate transactionDate;
+    BigDecimal amount;
+    BigDecimal signedAmount;
+    int count;
+
+    /**
+     * Entry for the current state of a transaction
+     */
+    public static LedgerEntry of(Transaction transaction) {
+        return new LedgerEntry(
+                transaction.getUser().getId(),
+                transaction.getAccount().getId(),
+                transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                transaction.getTransactionType(),
+                transaction.getCurrency(),
+                transaction.getTransactionDate(),
+                transaction.getAmount(),
+                transaction.signedAmount(),
+                1);
+    }
+
+    /**
+     * Entry that cancels this one (used for the old state on update and delete)
+     */
+    public LedgerEntry reversal() {
+        return new LedgerEntry(userId, accountId, categoryId, transactionType, currency, transactionDate,
+                amount.negate(), signedAmount.negate(), -count);
+    }
+}
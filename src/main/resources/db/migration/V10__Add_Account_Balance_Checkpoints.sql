@@ -0,0 +1,57 @@
+-- V10__Add_Account_Balance_Checkpoints.sql
+-- Month-end closing balance per account, for balance-as-of-date lookups
+
+-- ============================================
+-- TABLES
+-- ============================================
+
+-- Account Balance Checkpoints Table (closing balance including every transaction dated <= month_end)
+CREATE TABLE account_balance_checkpoints (
+    account_id BIGINT NOT NULL REFERENCES accounts(id) ON DELETE CASCADE,
+    month_end DATE NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    closing_balance NUMERIC(17, 2) NOT NULL,
+    PRIMARY KEY (account_id, month_end)
+);
+
+-- ============================================
+-- BACKFILL
+-- ============================================
+
+-- One checkpoint per completed month from each account's first transaction onwards
+INSERT INTO account_balance_checkpoints (account_id, month_end, user_id, closing_balance)
+SELECT m.account_id,
+       m.month_end,
+       m.user_id,
+       SUM(COALESCE(d.delta, 0)) OVER (PARTITION BY m.account_id ORDER BY m.month_end)
+FROM (
+    SELECT f.account_id,
+           f.user_id,
+           (gs + INTERVAL '1 month' - INTERVAL '1 day')::date AS month_end
+    FROM (
+        SELECT t.account_id, t.user_id, date_trunc('month', MIN(t.transaction_date)) AS first_month
+        FROM transactions t
+        GROUP BY t.account_id, t.user_id
+    ) f
+    CROSS JOIN LATERAL generate_series(
+        f.first_month,
+        date_trunc('month', CURRENT_DATE) - INTERVAL '1 month',
+        INTERVAL '1 month') gs
+) m
+LEFT JOIN (
+    SELECT t.account_id,
+           (date_trunc('month', t.transaction_date) + INTERVAL '1 month' - INTERVAL '1 day')::date AS month_end,
+           SUM(CASE
+                   WHEN t.transaction_type = 'EXPENSE' THEN -t.amount
+                   WHEN t.transaction_type = 'TRANSFER' AND t.transfer_direction = 'OUT' THEN -t.amount
+                   ELSE t.amount
+               END) AS delta
+    FROM transactions t
+    GROUP BY 1, 2
+) d ON d.account_id = m.account_id AND d.month_end = m.month_end;
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON TABLE account_balance_checkpoints IS 'Month-end closing balances; shifted in place when back-dated transactions change';
@@ -0,0 +1,13 @@
+-- V11__Add_Transaction_Summary_Index.sql
+-- Covering columns for per-period income/expense sums
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- Period sums read (user_id, transaction_date) ranges and need only type, currency and amount.
+-- Rather than a second index on the same key, the keyset index (V3) is rebuilt with INCLUDE so
+-- the sums are index-only scans and listings keep their (transaction_date DESC, id DESC) order
+DROP INDEX IF EXISTS idx_transactions_user_date_id;
+CREATE INDEX idx_transactions_user_date_id ON transactions(user_id, transaction_date DESC, id DESC)
+    INCLUDE (transaction_type, currency, amount);
@@ -0,0 +1,43 @@
+-- V12__Add_Monthly_Rollups.sql
+-- Per-month totals by category, type and currency, maintained on every transaction write
+
+-- ============================================
+-- TABLES
+-- ============================================
+
+-- Monthly Rollups Table (sum and count of transaction amounts; category_id NULL = uncategorized)
+CREATE TABLE monthly_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    month_start DATE NOT NULL,
+    category_id BIGINT REFERENCES categories(id) ON DELETE CASCADE,
+    transaction_type transaction_type NOT NULL,
+    currency currency_type NOT NULL,
+    total NUMERIC(17, 2) NOT NULL DEFAULT 0,
+    txn_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_monthly_rollups_key
+        UNIQUE NULLS NOT DISTINCT (user_id, month_start, category_id, transaction_type, currency)
+);
+
+-- ============================================
+-- BACKFILL
+-- ============================================
+
+INSERT INTO monthly_rollups (user_id, month_start, category_id, transaction_type, currency, total, txn_count)
+SELECT t.user_id,
+       date_trunc('month', t.transaction_date)::date,
+       t.category_id,
+       t.transaction_type,
+       t.currency,
+       SUM(t.amount),
+       COUNT(*)
+FROM transactions t
+GROUP BY 1, 2, 3, 4, 5;
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON TABLE monthly_rollups IS 'Monthly transaction totals; updated by deltas in the same transaction as each write';
+COMMENT ON COLUMN monthly_rollups.month_start IS 'First day of the month';
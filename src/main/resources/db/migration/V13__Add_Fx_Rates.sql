@@ -0,0 +1,25 @@
+-- V13__Add_Fx_Rates.sql
+-- Dated exchange rates used to convert aggregates into a user's base currency
+
+-- ============================================
+-- TABLES
+-- ============================================
+
+-- FX Rates Table (1 unit of base_currency = rate units of quote_currency, effective from rate_date)
+CREATE TABLE fx_rates (
+    base_currency currency_type NOT NULL,
+    quote_currency currency_type NOT NULL,
+    rate_date DATE NOT NULL,
+    rate NUMERIC(18, 8) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (base_currency, quote_currency, rate_date),
+    CONSTRAINT chk_fx_rates_positive CHECK (rate > 0),
+    CONSTRAINT chk_fx_rates_pair CHECK (base_currency <> quote_currency)
+);
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON TABLE fx_rates IS 'Exchange rate time series; the inverse pair is derived when only one direction is stored';
+COMMENT ON COLUMN fx_rates.rate_date IS 'Rate applies from this date until the next stored date';
@@ -0,0 +1,14 @@
+-- V14__Add_User_Token_Version.sql
+-- Per-user token version; access tokens carry it and are rejected once it moves on
+
+-- ============================================
+-- COLUMNS
+-- ============================================
+
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON COLUMN users.token_version IS 'Incremented to revoke every access token issued to the user';
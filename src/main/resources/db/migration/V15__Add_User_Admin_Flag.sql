@@ -0,0 +1,14 @@
+-- V15__Add_User_Admin_Flag.sql
+-- Administrators may read operational endpoints (actuator metrics) and maintain reference data
+
+-- ============================================
+-- COLUMNS
+-- ============================================
+
+ALTER TABLE users ADD COLUMN is_admin BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON COLUMN users.is_admin IS 'Grants ROLE_ADMIN; set directly in the database, never through the API';
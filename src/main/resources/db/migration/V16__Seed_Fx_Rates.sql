@@ -0,0 +1,16 @@
+-- V16__Seed_Fx_Rates.sql
+-- Starting USD/EGP rates so base-currency totals work on a fresh deploy
+-- Keep them current through PUT /api/fx-rates (administrators)
+
+-- ============================================
+-- FX RATES (Reference Data)
+-- ============================================
+
+INSERT INTO fx_rates (base_currency, quote_currency, rate_date, rate) VALUES
+('USD', 'EGP', '2023-01-01', 24.70000000),
+('USD', 'EGP', '2023-03-01', 30.90000000),
+('USD', 'EGP', '2024-03-06', 49.50000000),
+('USD', 'EGP', '2025-01-01', 50.80000000),
+('USD', 'EGP', '2025-07-01', 49.60000000),
+('USD', 'EGP', '2025-10-01', 48.20000000)
+ON CONFLICT (base_currency, quote_currency, rate_date) DO NOTHING;
@@ -0,0 +1,20 @@
+-- V3__Add_Transaction_Keyset_Indexes.sql
+-- Composite indexes for keyset pagination ordered by (transaction_date DESC, id DESC)
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- User listing: GET /api/transactions
+CREATE INDEX idx_transactions_user_date_id ON transactions(user_id, transaction_date DESC, id DESC);
+
+-- Account listing: GET /api/transactions/account/{accountId}
+CREATE INDEX idx_transactions_account_date_id ON transactions(account_id, transaction_date DESC, id DESC);
+
+-- Superseded: user_id and (user_id, transaction_date) are prefixes of idx_transactions_user_date_id,
+-- account_id (also the foreign key lookup) is a prefix of idx_transactions_account_date_id,
+-- and every date range query is scoped to a user or an account
+DROP INDEX IF EXISTS idx_transactions_user_id;
+DROP INDEX IF EXISTS idx_transactions_user_date;
+DROP INDEX IF EXISTS idx_transactions_account_id;
+DROP INDEX IF EXISTS idx_transactions_date;
@@ -0,0 +1,19 @@
+-- V4__Add_Transaction_Search_Indexes.sql
+-- Composite indexes for the common GET /api/transactions/search filter combinations
+-- Account filters are served by idx_transactions_account_date_id (V3)
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- Type filter (e.g. only INCOME/EXPENSE) sorted by date
+CREATE INDEX idx_transactions_user_type_date_id ON transactions(user_id, transaction_type, transaction_date DESC, id DESC);
+
+-- Category filter sorted by date
+CREATE INDEX idx_transactions_user_category_date_id ON transactions(user_id, category_id, transaction_date DESC, id DESC);
+
+-- Amount sort and amount range filters
+CREATE INDEX idx_transactions_user_amount_id ON transactions(user_id, amount DESC, id DESC);
+
+-- Superseded: transaction_type alone is low-cardinality and only ever filtered per user
+DROP INDEX IF EXISTS idx_transactions_type;
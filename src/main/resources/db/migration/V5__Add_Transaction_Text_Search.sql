@@ -0,0 +1,36 @@
+-- V5__Add_Transaction_Text_Search.sql
+-- Full-text and typo-tolerant search over transaction description and notes
+
+-- ============================================
+-- EXTENSIONS
+-- ============================================
+
+-- Trigram similarity for misspelled merchant names
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Lets user_id (a plain BIGINT) lead a GIN index so searches stay user-scoped
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- ============================================
+-- COLUMNS
+-- ============================================
+
+-- 'simple' config: no stemming/stop words, descriptions are mostly merchant names
+ALTER TABLE transactions ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(description, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(notes, '')), 'B')
+    ) STORED;
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+CREATE INDEX idx_transactions_user_search_vector ON transactions USING gin (user_id, search_vector);
+CREATE INDEX idx_transactions_user_description_trgm ON transactions USING gin (user_id, description gin_trgm_ops);
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON COLUMN transactions.search_vector IS 'Generated tsvector of description (weight A) and notes (weight B); not mapped by JPA';
@@ -0,0 +1,14 @@
+-- V6__Add_User_Data_Version.sql
+-- Per-user data version used for ETag / If-None-Match on read endpoints
+
+-- ============================================
+-- COLUMNS
+-- ============================================
+
+ALTER TABLE users ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON COLUMN users.data_version IS 'Incremented in the same transaction as every change to the user''s accounts, categories, transactions or allocations';
@@ -0,0 +1,35 @@
+-- V7__Add_Sync_Tombstones.sql
+-- Delta sync support: tombstones for hard deletes and updated_at indexes
+
+-- ============================================
+-- TABLES
+-- ============================================
+
+-- Sync Tombstones Table (one row per hard-deleted transaction/allocation)
+CREATE TABLE sync_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- Sync Tombstones
+CREATE INDEX idx_sync_tombstones_user_deleted ON sync_tombstones(user_id, deleted_at);
+CREATE INDEX idx_sync_tombstones_deleted ON sync_tombstones(deleted_at);
+
+-- Changes since a sync token
+CREATE INDEX idx_transactions_user_updated ON transactions(user_id, updated_at);
+CREATE INDEX idx_accounts_user_updated ON accounts(user_id, updated_at);
+CREATE INDEX idx_categories_user_updated ON categories(user_id, updated_at);
+CREATE INDEX idx_allocations_user_updated ON allocations(user_id, updated_at);
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON TABLE sync_tombstones IS 'Deleted transactions/allocations reported to delta sync clients; purged after the retention window';
@@ -0,0 +1,10 @@
+-- V8__Pooled_Transaction_Ids.sql
+-- Pooled sequence ids for transactions so Hibernate can batch inserts
+
+-- ============================================
+-- SEQUENCES
+-- ============================================
+
+-- Hibernate's pooled optimizer reserves 50 ids per nextval (allocationSize = 50).
+-- Inserts that still rely on the column default simply take the next block.
+ALTER SEQUENCE transactions_id_seq INCREMENT BY 50;
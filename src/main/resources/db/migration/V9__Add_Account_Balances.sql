@@ -0,0 +1,42 @@
+-- V9__Add_Account_Balances.sql
+-- Materialized running balance per account, maintained incrementally on every transaction write
+
+-- ============================================
+-- TABLES
+-- ============================================
+
+-- Account Balances Table (one row per account that has ever had a transaction)
+CREATE TABLE account_balances (
+    account_id BIGINT PRIMARY KEY REFERENCES accounts(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    balance NUMERIC(17, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+CREATE INDEX idx_account_balances_user_id ON account_balances(user_id);
+
+-- ============================================
+-- BACKFILL
+-- ============================================
+
+-- INCOME, ADJUSTMENT and incoming transfers add; EXPENSE and outgoing transfers subtract
+INSERT INTO account_balances (account_id, user_id, balance)
+SELECT t.account_id,
+       t.user_id,
+       SUM(CASE
+               WHEN t.transaction_type = 'EXPENSE' THEN -t.amount
+               WHEN t.transaction_type = 'TRANSFER' AND t.transfer_direction = 'OUT' THEN -t.amount
+               ELSE t.amount
+           END)
+FROM transactions t
+GROUP BY t.account_id, t.user_id;
+
+-- ============================================
+-- COMMENTS
+-- ============================================
+
+COMMENT ON TABLE account_balances IS 'Running balance per account in the transaction amounts; rebuilt from transactions by a scheduled job';
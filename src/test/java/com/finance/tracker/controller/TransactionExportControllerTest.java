@@ -0,0 +1,121 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.config.SecurityConfig;
+import com.finance.tracker.dto.transaction.TransactionExportFormat;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.security.AuthEntryPointJwt;
+import com.finance.tracker.security.JwtUtils;
+import com.finance.tracker.security.RateLimiter;
+import com.finance.tracker.service.DataVersionService;
+import com.finance.tracker.service.IdempotencyService;
+import com.finance.tracker.service.TokenVersionService;
+import com.finance.tracker.service.TransactionExportService;
+import com.finance.tracker.service.TransactionService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The export body is written on an async dispatch, after the stateless security context of the
+ * original request is gone; it must still go through the security chain
+ */
+@WebMvcTest(TransactionController.class)
+@Import({SecurityConfig.class, AuthEntryPointJwt.class})
+class TransactionExportControllerTest {
+
+    private static final String TOKEN = "test-token";
+    private static final long USER_ID = 7L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @MockBean
+    private DataVersionService dataVersionService;
+
+    @MockBean
+    private TransactionExportService transactionExportService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @MockBean
+    private JwtUtils jwtUtils;
+
+    @MockBean
+    private TokenVersionService tokenVersionService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @BeforeEach
+    void authenticate() {
+        Claims claims = mock(Claims.class);
+        User principal = User.builder()
+                .id(USER_ID)
+                .email("export@example.com")
+                .isActive(true)
+                .tokenVersion(0L)
+                .build();
+        when(jwtUtils.getVerifiedClaims(TOKEN)).thenReturn(claims);
+        when(jwtUtils.getPrincipal(claims)).thenReturn(principal);
+        when(tokenVersionService.isCurrent(USER_ID, 0L)).thenReturn(true);
+    }
+
+    @Test
+    void streamsExportOnAsyncDispatch() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(transactionExportService).export(eq(USER_ID), eq(TransactionExportFormat.NDJSON), any());
+
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void rejectsExportWithoutToken() throws Exception {
+        mockMvc.perform(get("/api/transactions/export"))
+                .andExpect(status().isUnauthorized());
+    }
+}
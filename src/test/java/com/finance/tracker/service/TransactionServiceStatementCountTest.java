@@ -0,0 +1,129 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.transaction.TransactionCreateRequest;
+import com.finance.tracker.dto.transaction.TransferCreateRequest;
+import com.finance.tracker.entity.Account;
+import com.finance.tracker.entity.User;
+import com.finance.tracker.entity.enums.AccountType;
+import com.finance.tracker.entity.enums.Currency;
+import com.finance.tracker.entity.enums.TransactionType;
+import com.finance.tracker.repository.AccountRepository;
+import com.finance.tracker.repository.BankRepository;
+import com.finance.tracker.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements per call on the single-transaction write paths
+ * Each call is measured after a warm-up write, so the id sequence pool is already allocated
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionServiceStatementCountTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long checkingId;
+    private Long savingsId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = userRepository.save(User.builder()
+                .email("writes-" + UUID.randomUUID() + "@example.com")
+                .password("not-a-real-hash")
+                .firstName("Statement")
+                .lastName("Count")
+                .build());
+        userId = user.getId();
+        checkingId = createAccount(user, "Checking", AccountType.CHECKING);
+        savingsId = createAccount(user, "Savings", AccountType.SAVINGS);
+
+        transactionService.createTransaction(userId, expense());
+    }
+
+    @Test
+    void createTransactionUsesOneSelectAndOneInsert() {
+        statistics.clear();
+
+        transactionService.createTransaction(userId, expense());
+
+        // Ownership SELECT and INSERT, then one upsert each for the balance and the rollup
+        // and the data version bump
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void createTransferInsertsBothLegsInOneStatement() {
+        statistics.clear();
+
+        transactionService.createTransfer(userId, TransferCreateRequest.builder()
+                .fromAccountId(checkingId)
+                .toAccountId(savingsId)
+                .amount(new BigDecimal("25.00"))
+                .currency(Currency.EGP)
+                .transferDate(LocalDate.now())
+                .build());
+
+        // Accounts SELECT and one batched INSERT for both legs, then two balance upserts,
+        // one rollup upsert and the data version bump
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+    }
+
+    private Long createAccount(User user, String name, AccountType type) {
+        return accountRepository.save(Account.builder()
+                .user(user)
+                .bank(bankRepository.findAll().get(0))
+                .name(name)
+                .accountType(type)
+                .currency(Currency.EGP)
+                .build()).getId();
+    }
+
+    private TransactionCreateRequest expense() {
+        return TransactionCreateRequest.builder()
+                .accountId(checkingId)
+                .transactionType(TransactionType.EXPENSE)
+                .amount(new BigDecimal("10.00"))
+                .build();
+    }
+}